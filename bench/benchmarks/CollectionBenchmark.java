@@ -0,0 +1,566 @@
+package benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import implementations.IntStack;
+import implementations.MyArrayList;
+import implementations.MyArrayQueue;
+import implementations.MyBoundedBlockingQueue;
+import implementations.MyBoundedStack;
+import implementations.MyConcurrentQueue;
+import implementations.MyDLL;
+import implementations.MyIndexedList;
+import implementations.MyOffHeapQueue;
+import implementations.MyQueue;
+import implementations.MyStack;
+import implementations.MyUnrolledList;
+import utilities.Iterator;
+import utilities.ListADT;
+import utilities.QueueADT;
+import utilities.RecordCodec;
+import utilities.StackADT;
+
+/**
+ * Measures the time of the common operations on every ListADT, StackADT and
+ * QueueADT implementation, next to the java.util collection that does the same
+ * job, at sizes from 10 to 10,000,000 elements.
+ *
+ * Operations that would change the size are paired with the one that undoes
+ * them, so every measurement is taken at the size it is reported at:
+ * <ul>
+ * <li>lists: append (add and remove the last), get (random index), insert-mid
+ * (add and remove at the middle), remove-front (remove the first and append
+ * it), iterate (the whole list) and contains (random element)</li>
+ * <li>stacks: push-pop, peek, iterate (the whole stack) and search (random
+ * element)</li>
+ * <li>queues: enqueue-dequeue, peek, iterate (the whole queue) and contains
+ * (random element)</li>
+ * </ul>
+ *
+ * Build with <code>mvn -Pbench package</code> and run with
+ * <code>java -jar target/benchmarks.jar CollectionBenchmark</code>. JMH's -p
+ * option picks structures and sizes by their printed name, e.g.
+ * <code>-p structure=MyDLL -p size=1000</code>, and <code>-prof gc</code> adds
+ * the bytes allocated per operation as gc.alloc.rate.norm. Every structure and
+ * size runs in a JVM of its own, so the JIT inlines the calls for that
+ * structure only. The 10,000,000 element linked structures need a heap of a
+ * few gigabytes, e.g. <code>-jvmArgs -Xmx4g</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 9, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class CollectionBenchmark {
+    private static final int PROBES = 4096;
+
+    /**
+     * A list filled with 0 to size - 1.
+     */
+    @State(Scope.Thread)
+    public static class Lists extends Probes {
+        @Param({ "MyArrayList", "MyDLL", "MyUnrolledList", "MyIndexedList", "java.util.ArrayList",
+                "java.util.LinkedList" })
+        public String structure;
+
+        ListSubject list;
+
+        @Setup
+        public void setUp() {
+            switch (structure) {
+            case "MyArrayList":
+                list = new MyList(new MyArrayList<>());
+                break;
+            case "MyDLL":
+                list = new MyList(new MyDLL<>());
+                break;
+            case "MyUnrolledList":
+                list = new MyList(new MyUnrolledList<>());
+                break;
+            case "MyIndexedList":
+                list = new MyList(new MyIndexedList<>());
+                break;
+            case "java.util.ArrayList":
+                list = new JavaList(new ArrayList<>());
+                break;
+            case "java.util.LinkedList":
+                list = new JavaList(new LinkedList<>());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown list " + structure);
+            }
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+            pick();
+        }
+    }
+
+    /**
+     * A stack with 0 to size - 1 pushed in order.
+     */
+    @State(Scope.Thread)
+    public static class Stacks extends Probes {
+        @Param({ "MyStack", "MyBoundedStack", "IntStack", "java.util.ArrayDeque" })
+        public String structure;
+
+        StackSubject stack;
+
+        @Setup
+        public void setUp() {
+            switch (structure) {
+            case "MyStack":
+                stack = new MyStackSubject(new MyStack<>());
+                break;
+            case "MyBoundedStack":
+                stack = new MyStackSubject(new MyBoundedStack<>(size + 1));
+                break;
+            case "IntStack":
+                stack = new MyStackSubject(new IntStack());
+                break;
+            case "java.util.ArrayDeque":
+                stack = new JavaDeque(new ArrayDeque<>());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown stack " + structure);
+            }
+            for (int i = 0; i < size; i++) {
+                stack.push(i);
+            }
+            pick();
+        }
+    }
+
+    /**
+     * A queue with 0 to size - 1 enqueued in order.
+     */
+    @State(Scope.Thread)
+    public static class Queues extends Probes {
+        @Param({ "MyQueue", "MyArrayQueue", "MyBoundedBlockingQueue", "MyConcurrentQueue", "MyOffHeapQueue",
+                "java.util.ArrayDeque", "java.util.LinkedList" })
+        public String structure;
+
+        QueueSubject queue;
+
+        @Setup
+        public void setUp() {
+            switch (structure) {
+            case "MyQueue":
+                queue = new MyQueueSubject(new MyQueue<>());
+                break;
+            case "MyArrayQueue":
+                queue = new MyQueueSubject(new MyArrayQueue<>());
+                break;
+            case "MyBoundedBlockingQueue":
+                queue = new MyQueueSubject(new MyBoundedBlockingQueue<>(size + 1));
+                break;
+            case "MyConcurrentQueue":
+                queue = new MyQueueSubject(new MyConcurrentQueue<>());
+                break;
+            case "MyOffHeapQueue":
+                queue = new MyQueueSubject(new MyOffHeapQueue<>(new IntegerCodec(), size + 1));
+                break;
+            case "java.util.ArrayDeque":
+                queue = new JavaDeque(new ArrayDeque<>());
+                break;
+            case "java.util.LinkedList":
+                queue = new JavaDeque(new LinkedList<>());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown queue " + structure);
+            }
+            for (int i = 0; i < size; i++) {
+                queue.enqueue(i);
+            }
+            pick();
+        }
+    }
+
+    @Benchmark
+    public Integer listAppend(Lists state) {
+        state.list.add(state.nextProbe());
+        return state.list.remove(state.size);
+    }
+
+    @Benchmark
+    public Integer listGet(Lists state) {
+        return state.list.get(state.nextIndex());
+    }
+
+    @Benchmark
+    public Integer listInsertMid(Lists state) {
+        int middle = state.size / 2;
+        state.list.add(middle, state.nextProbe());
+        return state.list.remove(middle);
+    }
+
+    @Benchmark
+    public void listRemoveFront(Lists state) {
+        state.list.add(state.list.remove(0));
+    }
+
+    @Benchmark
+    public long listIterate(Lists state) {
+        return state.list.sum();
+    }
+
+    @Benchmark
+    public boolean listContains(Lists state) {
+        return state.list.contains(state.nextProbe());
+    }
+
+    @Benchmark
+    public Integer stackPushPop(Stacks state) {
+        state.stack.push(state.nextProbe());
+        return state.stack.pop();
+    }
+
+    @Benchmark
+    public Integer stackPeek(Stacks state) {
+        return state.stack.peek();
+    }
+
+    @Benchmark
+    public long stackIterate(Stacks state) {
+        return state.stack.sum();
+    }
+
+    @Benchmark
+    public boolean stackSearch(Stacks state) {
+        return state.stack.contains(state.nextProbe());
+    }
+
+    @Benchmark
+    public Integer queueEnqueueDequeue(Queues state) throws Exception {
+        state.queue.enqueue(state.nextProbe());
+        return state.queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer queuePeek(Queues state) throws Exception {
+        return state.queue.peek();
+    }
+
+    @Benchmark
+    public long queueIterate(Queues state) {
+        return state.queue.sum();
+    }
+
+    @Benchmark
+    public boolean queueContains(Queues state) {
+        return state.queue.contains(state.nextProbe());
+    }
+
+    /**
+     * The size of a structure and random positions in it, with an Integer equal
+     * to the element at each, so looking up or adding a probe allocates nothing.
+     * Each call takes the next probe, carrying on across iterations, so no two
+     * calls in a row look at the same position.
+     */
+    @State(Scope.Thread)
+    public abstract static class Probes {
+        @Param({ "10", "1000", "100000", "10000000" })
+        public int size;
+
+        private final int[] indexes = new int[PROBES];
+        private final Integer[] values = new Integer[PROBES];
+        private int next;
+
+        void pick() {
+            Random random = new Random(42);
+            for (int i = 0; i < PROBES; i++) {
+                indexes[i] = random.nextInt(size);
+                values[i] = Integer.valueOf(indexes[i]);
+            }
+        }
+
+        int nextIndex() {
+            return indexes[next++ & (PROBES - 1)];
+        }
+
+        Integer nextProbe() {
+            return values[next++ & (PROBES - 1)];
+        }
+    }
+
+    private interface ListSubject {
+        void add(Integer element);
+
+        void add(int index, Integer element);
+
+        Integer get(int index);
+
+        Integer remove(int index);
+
+        boolean contains(Integer element);
+
+        long sum();
+    }
+
+    private interface StackSubject {
+        void push(Integer element);
+
+        Integer pop();
+
+        Integer peek();
+
+        boolean contains(Integer element);
+
+        long sum();
+    }
+
+    private interface QueueSubject {
+        void enqueue(Integer element);
+
+        Integer dequeue() throws Exception;
+
+        Integer peek() throws Exception;
+
+        boolean contains(Integer element);
+
+        long sum();
+    }
+
+    private static long sum(Iterator<Integer> iterator) {
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+    private static long sum(Iterable<Integer> elements) {
+        long sum = 0;
+        for (Integer element : elements) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    private static class MyList implements ListSubject {
+        private final ListADT<Integer> list;
+
+        MyList(ListADT<Integer> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void add(Integer element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, Integer element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public Integer remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public boolean contains(Integer element) {
+            return list.contains(element);
+        }
+
+        @Override
+        public long sum() {
+            return CollectionBenchmark.sum(list.iterator());
+        }
+    }
+
+    private static class JavaList implements ListSubject {
+        private final List<Integer> list;
+
+        JavaList(List<Integer> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void add(Integer element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, Integer element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public Integer remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public boolean contains(Integer element) {
+            return list.contains(element);
+        }
+
+        @Override
+        public long sum() {
+            return CollectionBenchmark.sum(list);
+        }
+    }
+
+    private static class MyStackSubject implements StackSubject {
+        private final StackADT<Integer> stack;
+
+        MyStackSubject(StackADT<Integer> stack) {
+            this.stack = stack;
+        }
+
+        @Override
+        public void push(Integer element) {
+            stack.push(element);
+        }
+
+        @Override
+        public Integer pop() {
+            return stack.pop();
+        }
+
+        @Override
+        public Integer peek() {
+            return stack.peek();
+        }
+
+        @Override
+        public boolean contains(Integer element) {
+            return stack.contains(element);
+        }
+
+        @Override
+        public long sum() {
+            return CollectionBenchmark.sum(stack.iterator());
+        }
+    }
+
+    private static class MyQueueSubject implements QueueSubject {
+        private final QueueADT<Integer> queue;
+
+        MyQueueSubject(QueueADT<Integer> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void enqueue(Integer element) {
+            queue.enqueue(element);
+        }
+
+        @Override
+        public Integer dequeue() throws Exception {
+            return queue.dequeue();
+        }
+
+        @Override
+        public Integer peek() throws Exception {
+            return queue.peek();
+        }
+
+        @Override
+        public boolean contains(Integer element) {
+            return queue.contains(element);
+        }
+
+        @Override
+        public long sum() {
+            return CollectionBenchmark.sum(queue.iterator());
+        }
+    }
+
+    /**
+     * A java.util.Deque used as a stack (push and pop at the front) or as a
+     * queue (add at the back, remove from the front).
+     */
+    private static class JavaDeque implements StackSubject, QueueSubject {
+        private final java.util.Deque<Integer> deque;
+
+        JavaDeque(java.util.Deque<Integer> deque) {
+            this.deque = deque;
+        }
+
+        @Override
+        public void push(Integer element) {
+            deque.push(element);
+        }
+
+        @Override
+        public Integer pop() {
+            return deque.pop();
+        }
+
+        @Override
+        public void enqueue(Integer element) {
+            deque.addLast(element);
+        }
+
+        @Override
+        public Integer dequeue() {
+            return deque.removeFirst();
+        }
+
+        @Override
+        public Integer peek() {
+            return deque.getFirst();
+        }
+
+        @Override
+        public boolean contains(Integer element) {
+            return deque.contains(element);
+        }
+
+        @Override
+        public long sum() {
+            return CollectionBenchmark.sum(deque);
+        }
+    }
+
+    /**
+     * Stores an Integer in a four byte record, for {@link MyOffHeapQueue}.
+     */
+    private static class IntegerCodec implements RecordCodec<Integer> {
+        @Override
+        public int recordSize() {
+            return 4;
+        }
+
+        @Override
+        public void write(Integer element, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    }
+}
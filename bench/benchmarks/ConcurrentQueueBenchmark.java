@@ -0,0 +1,122 @@
+package benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import implementations.MyConcurrentQueue;
+import implementations.MyQueue;
+
+/**
+ * Measures how long it takes several producer threads to hand one element to
+ * one consumer thread through {@link MyConcurrentQueue}, compared with a
+ * {@link MyQueue} whose every call is made while holding its lock. Each
+ * invocation moves the same number of elements whatever the number of
+ * producers, split evenly between them, and the score is per element.
+ *
+ * Build with <code>mvn -Pbench package</code> and run with
+ * <code>java -jar target/benchmarks.jar ConcurrentQueueBenchmark</code>; add
+ * <code>-bm thrpt -tu s</code> for elements per second.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 9, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentQueueBenchmark {
+    private static final int TRANSFERRED = 800_000;
+
+    @Param({ "MyConcurrentQueue", "MyQueue" })
+    public String queue;
+
+    @Param({ "1", "2", "4", "8" })
+    public int producers;
+
+    private Consumer<Integer> enqueue;
+    private Supplier<Integer> poll;
+
+    @Setup
+    public void setUp() {
+        switch (queue) {
+        case "MyConcurrentQueue":
+            MyConcurrentQueue<Integer> lockFree = new MyConcurrentQueue<>();
+            enqueue = lockFree::enqueue;
+            poll = lockFree::poll;
+            break;
+        case "MyQueue":
+            MyQueue<Integer> locked = new MyQueue<>();
+            enqueue = element -> {
+                synchronized (locked) {
+                    locked.enqueue(element);
+                }
+            };
+            poll = () -> {
+                synchronized (locked) {
+                    try {
+                        return locked.isEmpty() ? null : locked.dequeue();
+                    } catch (exceptions.EmptyQueueException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            };
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown queue " + queue);
+        }
+    }
+
+    /**
+     * Starts the producers together and consumes on the calling thread until
+     * every element has arrived.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TRANSFERRED)
+    public long transfer() throws InterruptedException {
+        int perProducer = TRANSFERRED / producers;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    enqueue.accept(i);
+                }
+            });
+            threads[p].start();
+        }
+        start.countDown();
+        long sum = 0;
+        for (int received = 0; received < producers * perProducer; ) {
+            Integer element = poll.get();
+            if (element == null) {
+                Thread.yield();
+            } else {
+                sum += element;
+                received++;
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,232 @@
+package benchmarks;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import implementations.ErrorBuffer;
+import implementations.Parser;
+import implementations.XMLTokenizer;
+
+/**
+ * Measures how fast {@link Parser} validates a corpus of files, end to end from
+ * opening each file to returning its errors. Each call validates the next file
+ * of the corpus. The score is files per second, and the bytes and tags
+ * counters give the throughput in bytes and tags per second. Run with
+ * <code>-bm sample -tu ms</code> instead for the median, 99th percentile and
+ * slowest time to validate one file.
+ *
+ * The corpus is either every .xml file under the directory given as the input
+ * parameter, or one written to a temporary directory by
+ * {@link XMLCorpusGenerator} and deleted afterwards, shaped by the generator's
+ * parameters: size (per file, with a k, m or g suffix), files, depth,
+ * vocabulary, attributes, errorRate and seed. The mapped and parallelism
+ * parameters are the Driver's -m and -p options, and reusable validates every
+ * file with one reusable parser.
+ *
+ * Build with <code>mvn -Pbench package</code> and run with
+ * <code>java -jar target/benchmarks.jar ParserBenchmark</code>, e.g. with
+ * <code>-p mapped=true -p parallelism=4</code>. Add <code>-prof gc</code> for
+ * the bytes allocated per file; it counts every thread, including the pool's
+ * threads that validate parallel chunks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    /**
+     * The files to validate, with the size and number of tags of each.
+     */
+    @State(Scope.Benchmark)
+    public static class Corpus {
+        @Param("")
+        public String input;
+
+        @Param("256k")
+        public String size;
+
+        @Param("100")
+        public int files;
+
+        @Param("12")
+        public int depth;
+
+        @Param("50")
+        public int vocabulary;
+
+        @Param("1.0")
+        public double attributes;
+
+        @Param("0.0")
+        public double errorRate;
+
+        @Param("42")
+        public long seed;
+
+        String[] names;
+        long[] bytes;
+        long[] tags;
+        private Path temporary;
+        private List<Path> paths;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            if (!input.isEmpty()) {
+                paths = list(Paths.get(input));
+            } else {
+                XMLCorpusGenerator generator = new XMLCorpusGenerator();
+                generator.setSize(XMLCorpusGenerator.parseSize(size));
+                generator.setMaxDepth(depth);
+                generator.setVocabulary(vocabulary);
+                generator.setAttributes(attributes);
+                generator.setErrorRate(errorRate);
+                generator.setSeed(seed);
+                temporary = Files.createTempDirectory("corpus");
+                paths = new ArrayList<>();
+                for (int i = 0; i < files; i++) {
+                    Path file = temporary.resolve(String.format("corpus%05d.xml", i));
+                    generator.generate(file, i);
+                    paths.add(file);
+                }
+            }
+            names = new String[paths.size()];
+            bytes = new long[names.length];
+            tags = new long[names.length];
+            long errors = 0;
+            for (int i = 0; i < names.length; i++) {
+                names[i] = paths.get(i).toString();
+                bytes[i] = Files.size(paths.get(i));
+                tags[i] = countTags(names[i]);
+                errors += new Parser().validate(names[i]).size();
+            }
+            System.out.printf("%nfiles %d, %.1f MB, %d tags, %d errors%n", names.length,
+                    sum(bytes) / (double) (1 << 20), sum(tags), errors);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            if (temporary != null) {
+                for (Path file : paths) {
+                    Files.delete(file);
+                }
+                Files.delete(temporary);
+            }
+        }
+    }
+
+    /**
+     * A parser with the options being measured, and the corpus file it
+     * validates next.
+     */
+    @State(Scope.Thread)
+    public static class Validator {
+        @Param("false")
+        public boolean mapped;
+
+        @Param("1")
+        public int parallelism;
+
+        @Param("false")
+        public boolean reusable;
+
+        Parser parser;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            parser = new Parser();
+            parser.setMemoryMapped(mapped);
+            parser.setParallelism(parallelism);
+            parser.setReusable(reusable);
+        }
+    }
+
+    /**
+     * The bytes and tags validated, which JMH reports per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Input {
+        public long bytes;
+        public long tags;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            bytes = 0;
+            tags = 0;
+        }
+    }
+
+    @Benchmark
+    public ErrorBuffer validate(Corpus corpus, Validator validator, Input input) throws IOException {
+        int file = validator.next;
+        validator.next = file + 1 == corpus.names.length ? 0 : file + 1;
+        input.bytes += corpus.bytes[file];
+        input.tags += corpus.tags[file];
+        return validator.parser.validate(corpus.names[file]);
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Counts the start, end, self-closing and malformed tags in a file.
+     */
+    private static long countTags(String fileName) throws IOException {
+        XMLTokenizer tokenizer = new XMLTokenizer(
+                new InputStreamReader(new FileInputStream(fileName), StandardCharsets.UTF_8));
+        long tags = 0;
+        try {
+            int token;
+            while ((token = tokenizer.next()) != XMLTokenizer.END_OF_INPUT) {
+                if (token == XMLTokenizer.START_TAG || token == XMLTokenizer.END_TAG
+                        || token == XMLTokenizer.EMPTY_TAG || token == XMLTokenizer.INVALID) {
+                    tags++;
+                }
+            }
+        } finally {
+            tokenizer.close();
+        }
+        return tags;
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(file -> file.toString().endsWith(".xml") && Files.isRegularFile(file))
+                    .sorted(Comparator.naturalOrder()).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import implementations.MyArrayQueue;
+import implementations.MyQueue;
+import utilities.QueueADT;
+
+/**
+ * Measures how search, contains and equals on a queue scale with its size.
+ * Each size doubles the last, so a linear operation takes about twice as long
+ * at the next size while a quadratic one takes about four times as long.
+ *
+ * Build with <code>mvn -Pbench package</code> and run with
+ * <code>java -jar target/benchmarks.jar QueueSearchBenchmark</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 9, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueSearchBenchmark {
+    @Param({ "MyQueue", "MyArrayQueue" })
+    public String queue;
+
+    @Param({ "1024", "2048", "4096", "8192", "16384", "32768", "65536", "131072" })
+    public int size;
+
+    private QueueADT<Integer> subject;
+    private QueueADT<Integer> copy;
+    // the last element is the worst case for a front-to-back search
+    private Integer last;
+
+    @Setup
+    public void setUp() {
+        subject = create();
+        copy = create();
+        for (int i = 0; i < size; i++) {
+            subject.enqueue(i);
+            copy.enqueue(i);
+        }
+        last = size - 1;
+    }
+
+    private QueueADT<Integer> create() {
+        switch (queue) {
+        case "MyQueue":
+            return new MyQueue<>();
+        case "MyArrayQueue":
+            return new MyArrayQueue<>();
+        default:
+            throw new IllegalArgumentException("Unknown queue " + queue);
+        }
+    }
+
+    @Benchmark
+    public int search() {
+        return subject.search(last);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return subject.contains(last);
+    }
+
+    @Benchmark
+    public boolean equalsCopy() {
+        return subject.equals(copy);
+    }
+}
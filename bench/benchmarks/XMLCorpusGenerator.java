@@ -0,0 +1,376 @@
+package benchmarks;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Writes synthetic XML documents for measuring the validator. The size,
+ * nesting depth, number of distinct tag names, attributes per tag and the rate
+ * of injected errors can all be chosen, and the same seed always produces the
+ * same bytes.
+ *
+ * Documents are written as they are generated, one tag per line and indented
+ * like the samples in res, so a document can be far larger than the heap. Every
+ * line starts with a tag, which lets parallel validation split the file
+ * anywhere. Injected errors are one of a wrong end tag name, an end tag with
+ * nothing open to close, or a start tag missing its closing bracket, picked at
+ * random. A wrong end tag also leaves the tag it should have closed open, so
+ * the validator may report more errors than were injected.
+ *
+ * Usage: <code>XMLCorpusGenerator -o&lt;path&gt; [-b&lt;size&gt;] [-c&lt;files&gt;]
+ * [-d&lt;depth&gt;] [-v&lt;names&gt;] [-a&lt;attributes&gt;] [-e&lt;rate&gt;]
+ * [-r&lt;seed&gt;]</code>. Sizes take a k, m or g suffix. With -c the path is a
+ * directory that receives that many files of the given size each.
+ */
+public class XMLCorpusGenerator {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String[] SYLLABLES = { "ba", "ce", "di", "fo", "gu", "ha", "ke", "li", "mo", "nu", "pa",
+            "re", "si", "to", "vu", "wa", "xe", "yo", "za", "qu" };
+
+    private long size = 1L << 20;
+    private int maxDepth = 12;
+    private int vocabulary = 50;
+    private double attributes = 1.0;
+    private double errorRate = 0.0;
+    private long seed = 42;
+
+    private long written;
+    private long tags;
+    private long errors;
+
+    /**
+     * Sets roughly how many bytes each document holds. A document stops at the
+     * first tag past this size and then closes the tags still open.
+     *
+     * @param size The size of a document in bytes.
+     */
+    public void setSize(long size) {
+        if (size < 1) throw new IllegalArgumentException("Size must be at least 1.");
+        this.size = size;
+    }
+
+    /**
+     * Sets the deepest that tags nest, counting the root element.
+     *
+     * @param maxDepth The most tags open at once.
+     */
+    public void setMaxDepth(int maxDepth) {
+        if (maxDepth < 1) throw new IllegalArgumentException("Depth must be at least 1.");
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Sets how many distinct tag names the documents use.
+     *
+     * @param vocabulary The number of tag names.
+     */
+    public void setVocabulary(int vocabulary) {
+        if (vocabulary < 2) throw new IllegalArgumentException("Vocabulary must be at least 2.");
+        this.vocabulary = vocabulary;
+    }
+
+    /**
+     * Sets the average number of attributes on a start or self-closing tag.
+     *
+     * @param attributes The mean attributes per tag.
+     */
+    public void setAttributes(double attributes) {
+        if (attributes < 0) throw new IllegalArgumentException("Attributes can't be negative.");
+        this.attributes = attributes;
+    }
+
+    /**
+     * Sets the chance that a tag is replaced by an error.
+     *
+     * @param errorRate The fraction of tags that are errors, from 0 to 1.
+     */
+    public void setErrorRate(double errorRate) {
+        if (errorRate < 0 || errorRate > 1) throw new IllegalArgumentException("Error rate must be from 0 to 1.");
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Sets the seed of the random choices. Document n of a corpus uses seed + n.
+     *
+     * @param seed The seed.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the bytes written by the last call to generate.
+     *
+     * @return The bytes written.
+     */
+    public long getBytesWritten() {
+        return written;
+    }
+
+    /**
+     * Returns the start, end and self-closing tags written by the last call to
+     * generate, counting each injected error as one tag.
+     *
+     * @return The tags written.
+     */
+    public long getTagsWritten() {
+        return tags;
+    }
+
+    /**
+     * Returns the errors injected by the last call to generate.
+     *
+     * @return The errors injected.
+     */
+    public long getErrorsInjected() {
+        return errors;
+    }
+
+    /**
+     * Writes one document to a file.
+     *
+     * @param file The file to write.
+     * @param index Which document of a corpus this is, added to the seed.
+     * @throws IOException If the file cannot be written.
+     */
+    public void generate(Path file, int index) throws IOException {
+        try (OutputStream out = new FileOutputStream(file.toFile())) {
+            generate(out, index);
+        }
+    }
+
+    /**
+     * Writes one document to a stream. The stream is not closed.
+     *
+     * @param out The stream to write to.
+     * @param index Which document of a corpus this is, added to the seed.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void generate(OutputStream out, int index) throws IOException {
+        Random random = new Random(seed + index);
+        Writer writer = new Writer(out);
+        String[] names = names(random);
+        int[] open = new int[maxDepth];
+        int depth = 0;
+        written = 0;
+        tags = 0;
+        errors = 0;
+
+        writer.append("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n");
+        open[depth++] = 0;
+        startTag(writer, random, names[0], 0, false);
+        while (writer.count < size) {
+            double choice = random.nextDouble();
+            if (random.nextDouble() < errorRate) {
+                injectError(writer, random, names, open, depth);
+            } else if (depth < maxDepth && choice < 0.4) {
+                int name = 1 + random.nextInt(names.length - 1);
+                startTag(writer, random, names[name], depth, false);
+                open[depth++] = name;
+            } else if (depth == 1 || choice < 0.75) {
+                leaf(writer, random, names[1 + random.nextInt(names.length - 1)], depth);
+            } else {
+                endTag(writer, names[open[--depth]], depth);
+            }
+        }
+        while (depth > 0) {
+            endTag(writer, names[open[--depth]], depth);
+        }
+        writer.flush();
+        written = writer.count;
+    }
+
+    private void startTag(Writer writer, Random random, String name, int depth, boolean empty) throws IOException {
+        indent(writer, depth);
+        writer.append('<').append(name);
+        int count = (int) attributes;
+        if (random.nextDouble() < attributes - count) {
+            count++;
+        }
+        for (int i = 0; i < count; i++) {
+            writer.append(" a").append(Integer.toString(random.nextInt(16))).append("=\"");
+            value(writer, random);
+            writer.append('"');
+        }
+        writer.append(empty ? "/>\n" : ">\n");
+        tags++;
+    }
+
+    private void endTag(Writer writer, String name, int depth) throws IOException {
+        indent(writer, depth);
+        writer.append("</").append(name).append(">\n");
+        tags++;
+    }
+
+    /**
+     * Writes a self-closing tag or an element holding only text.
+     */
+    private void leaf(Writer writer, Random random, String name, int depth) throws IOException {
+        if (random.nextBoolean()) {
+            startTag(writer, random, name, depth, true);
+            return;
+        }
+        startTag(writer, random, name, depth, false);
+        indent(writer, depth + 1);
+        int words = 1 + random.nextInt(8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                writer.append(' ');
+            }
+            value(writer, random);
+        }
+        writer.append('\n');
+        endTag(writer, name, depth);
+    }
+
+    private void injectError(Writer writer, Random random, String[] names, int[] open, int depth) throws IOException {
+        errors++;
+        switch (random.nextInt(3)) {
+        case 0:
+            // closes the current tag with the wrong name; leaves the real one open
+            endTag(writer, names[(open[depth - 1] + 1) % names.length], depth - 1);
+            break;
+        case 1:
+            // an end tag for a name that is never opened
+            endTag(writer, "Stray", depth);
+            break;
+        default:
+            // a start tag that runs into the next tag before its '>'
+            indent(writer, depth);
+            writer.append('<').append(names[1 + random.nextInt(names.length - 1)]).append('\n');
+            tags++;
+            break;
+        }
+    }
+
+    private static void indent(Writer writer, int depth) throws IOException {
+        for (int i = 0; i < depth; i++) {
+            writer.append('\t');
+        }
+    }
+
+    private static void value(Writer writer, Random random) throws IOException {
+        int length = 3 + random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            writer.append((char) ('a' + random.nextInt(26)));
+        }
+    }
+
+    /**
+     * Makes the tag names of one document. The first name is the root's and is
+     * used for nothing else.
+     */
+    private String[] names(Random random) {
+        String[] names = new String[vocabulary];
+        names[0] = "Corpus";
+        for (int i = 1; i < vocabulary; i++) {
+            StringBuilder name = new StringBuilder();
+            int syllables = 2 + random.nextInt(4);
+            for (int s = 0; s < syllables; s++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+            names[i] = name.append(i).toString();
+        }
+        return names;
+    }
+
+    public static void main(String[] args) throws IOException {
+        XMLCorpusGenerator generator = new XMLCorpusGenerator();
+        String output = null;
+        int files = 0;
+        for (String arg : args) {
+            String value = arg.length() > 2 ? arg.substring(2) : "";
+            if (arg.startsWith("-o")) {
+                output = value;
+            } else if (arg.startsWith("-b")) {
+                generator.setSize(parseSize(value));
+            } else if (arg.startsWith("-c")) {
+                files = Integer.parseInt(value);
+            } else if (arg.startsWith("-d")) {
+                generator.setMaxDepth(Integer.parseInt(value));
+            } else if (arg.startsWith("-v")) {
+                generator.setVocabulary(Integer.parseInt(value));
+            } else if (arg.startsWith("-a")) {
+                generator.setAttributes(Double.parseDouble(value));
+            } else if (arg.startsWith("-e")) {
+                generator.setErrorRate(Double.parseDouble(value));
+            } else if (arg.startsWith("-r")) {
+                generator.setSeed(Long.parseLong(value));
+            }
+        }
+        if (output == null) {
+            System.err.println("Usage: XMLCorpusGenerator -o<path> [-b<size>] [-c<files>] [-d<depth>] [-v<names>]"
+                    + " [-a<attributes>] [-e<rate>] [-r<seed>]");
+            System.exit(1);
+        }
+
+        if (files == 0) {
+            generator.generate(Paths.get(output), 0);
+            System.out.printf("%s: %d bytes, %d tags, %d errors%n", output, generator.getBytesWritten(),
+                    generator.getTagsWritten(), generator.getErrorsInjected());
+            return;
+        }
+        Path directory = Files.createDirectories(Paths.get(output));
+        long bytes = 0;
+        long tags = 0;
+        long errors = 0;
+        for (int i = 0; i < files; i++) {
+            generator.generate(directory.resolve(String.format("corpus%05d.xml", i)), i);
+            bytes += generator.getBytesWritten();
+            tags += generator.getTagsWritten();
+            errors += generator.getErrorsInjected();
+        }
+        System.out.printf("%s: %d files, %d bytes, %d tags, %d errors%n", output, files, bytes, tags, errors);
+    }
+
+    /**
+     * Reads a size such as 512, 64k, 10m or 20g.
+     */
+    static long parseSize(String text) {
+        char unit = Character.toLowerCase(text.charAt(text.length() - 1));
+        int shift = unit == 'k' ? 10 : unit == 'm' ? 20 : unit == 'g' ? 30 : 0;
+        String number = shift == 0 ? text : text.substring(0, text.length() - 1);
+        return Long.parseLong(number) << shift;
+    }
+
+    /**
+     * Buffers ASCII output as bytes and counts them.
+     */
+    private static class Writer {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        long count;
+
+        Writer(OutputStream out) {
+            this.out = out;
+        }
+
+        Writer append(char c) throws IOException {
+            if (position == buffer.length) {
+                flush();
+            }
+            buffer[position++] = (byte) c;
+            count++;
+            return this;
+        }
+
+        Writer append(String text) throws IOException {
+            for (int i = 0; i < text.length(); i++) {
+                append(text.charAt(i));
+            }
+            return this;
+        }
+
+        void flush() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package appDomain;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import exceptions.EmptyQueueException;
+import implementations.ErrorBuffer;
+import implementations.MyArrayList;
+import implementations.MyArrayQueue;
+import implementations.Parser;
+import implementations.ParserPool;
+import utilities.Iterator;
+
+/**
+ * This class validates many files in one run of the program. Files are
+ * collected from directories, glob patterns or a list read from standard input,
+ * validated concurrently on a bounded pool of workers, and their reports are
+ * printed one file at a time in the order the files were collected. Workers
+ * only collect error records; messages are built by the printing thread.
+ *
+ * Files are validated with reusable parsers from a {@link ParserPool}, so
+ * batches of many small files do not set up a new parser for each. A worker's
+ * parser stays with its result until the report is printed, since the errors
+ * belong to the parser, and the pool holds one parser for every report that may
+ * be waiting.
+ */
+public class BatchValidator
+{
+	private static final int WINDOW_PER_THREAD = 4;
+
+	private final Parser parser;
+	private final int threads;
+	private final boolean virtualThreads;
+	private final MyArrayList<String> fileNames = new MyArrayList<>();
+
+	/**
+	 * Creates a batch validator.
+	 *
+	 * @param parser         the parser whose settings every file is validated
+	 *                       with
+	 * @param threads        the most files validated at once
+	 * @param virtualThreads true to run workers on virtual threads when the JVM
+	 *                       supports them
+	 */
+	public BatchValidator(Parser parser, int threads, boolean virtualThreads)
+	{
+		if (threads < 1)
+		{
+			throw new IllegalArgumentException("Thread count must be at least 1.");
+		}
+		this.parser = parser;
+		this.threads = threads;
+		this.virtualThreads = virtualThreads;
+	}
+
+	/**
+	 * Adds one file to the batch.
+	 *
+	 * @param fileName the file to validate
+	 */
+	public void addFile(String fileName)
+	{
+		fileNames.add(fileName);
+	}
+
+	/**
+	 * Adds every .xml file under a directory, in sorted order.
+	 *
+	 * @param directory the directory to search
+	 * @throws IOException if the directory cannot be read
+	 */
+	public void addDirectory(String directory) throws IOException
+	{
+		addMatching(Paths.get(directory), Integer.MAX_VALUE, FileSystems.getDefault().getPathMatcher("glob:**.xml"));
+	}
+
+	/**
+	 * Adds every file matching a glob pattern such as <code>res/*.xml</code>, in
+	 * sorted order. The search starts at the part of the pattern before its first
+	 * wildcard and goes no deeper than the pattern's remaining directories,
+	 * unless the pattern holds <code>**</code>, which crosses any number of them.
+	 *
+	 * @param glob the pattern to match
+	 * @throws IOException if a directory cannot be read
+	 */
+	public void addGlob(String glob) throws IOException
+	{
+		int wildcard = 0;
+		while (wildcard < glob.length() && "*?[{".indexOf(glob.charAt(wildcard)) < 0)
+		{
+			wildcard++;
+		}
+		int slash = glob.lastIndexOf('/', wildcard);
+		Path root = Paths.get(slash < 0 ? "." : glob.substring(0, slash + 1));
+		String pattern = slash < 0 ? "./" + glob : glob;
+		int depth = Integer.MAX_VALUE;
+		if (!glob.contains("**"))
+		{
+			// every level below the root takes a '/' in the pattern
+			depth = 1;
+			for (int i = slash + 1; i < glob.length(); i++)
+			{
+				if (glob.charAt(i) == '/')
+				{
+					depth++;
+				}
+			}
+		}
+		addMatching(root, depth, FileSystems.getDefault().getPathMatcher("glob:" + pattern));
+	}
+
+	/**
+	 * Adds every file named in a stream, one name per line, in the order given.
+	 *
+	 * @param in the stream to read names from
+	 * @throws IOException if the stream cannot be read
+	 */
+	public void addFileList(InputStream in) throws IOException
+	{
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		String line;
+		while ((line = reader.readLine()) != null)
+		{
+			line = line.trim();
+			if (!line.isEmpty())
+			{
+				fileNames.add(line);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of files in the batch.
+	 *
+	 * @return the number of files collected so far
+	 */
+	public int size()
+	{
+		return fileNames.size();
+	}
+
+	/**
+	 * Validates every file in the batch and prints each report in order. At most
+	 * a few reports per worker are held waiting for earlier files to finish.
+	 *
+	 * @param out the stream to print reports to
+	 * @throws InterruptedException if interrupted while waiting for a worker
+	 */
+	public void run(PrintStream out) throws InterruptedException
+	{
+		ExecutorService pool = createPool();
+		Semaphore running = new Semaphore(threads);
+		ParserPool parsers = new ParserPool(parser, threads * WINDOW_PER_THREAD);
+		MyArrayQueue<Future<Result>> pending = new MyArrayQueue<>();
+		MyArrayQueue<String> pendingNames = new MyArrayQueue<>();
+		try
+		{
+			for (Iterator<String> it = fileNames.iterator(); it.hasNext();)
+			{
+				final String fileName = it.next();
+				if (pending.size() >= threads * WINDOW_PER_THREAD)
+				{
+					printNext(out, pendingNames, pending, parsers);
+				}
+				pendingNames.enqueue(fileName);
+				pending.enqueue(pool.submit(() -> {
+					running.acquire();
+					Parser worker = null;
+					Result result = null;
+					try
+					{
+						worker = parsers.take();
+						result = new Result(worker, Driver.validate(worker, fileName));
+						return result;
+					} finally
+					{
+						// the parser goes with its result, or straight back if
+						// validation failed with an error
+						if (worker != null && result == null)
+						{
+							parsers.release(worker);
+						}
+						running.release();
+					}
+				}));
+			}
+			while (!pending.isEmpty())
+			{
+				printNext(out, pendingNames, pending, parsers);
+			}
+		} catch (EmptyQueueException e)
+		{
+			throw new IllegalStateException(e);
+		} finally
+		{
+			pool.shutdownNow();
+		}
+	}
+
+	private void addMatching(Path root, int depth, PathMatcher matcher) throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(root, depth))
+		{
+			String[] found = paths.filter(path -> Files.isRegularFile(path) && matcher.matches(path))
+					.map(Path::toString).toArray(String[]::new);
+			Arrays.sort(found);
+			for (String fileName : found)
+			{
+				fileNames.add(fileName);
+			}
+		}
+	}
+
+	/**
+	 * Creates the worker pool. Virtual threads are found by reflection so the
+	 * program still runs on JVMs that predate them; a virtual thread pool is
+	 * unbounded, so {@link #run(PrintStream)} limits running workers itself.
+	 */
+	private ExecutorService createPool()
+	{
+		if (virtualThreads)
+		{
+			try
+			{
+				Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+				return (ExecutorService) factory.invoke(null);
+			} catch (ReflectiveOperationException e)
+			{
+				// not available on this JVM, fall back to platform threads
+			}
+		}
+		return Executors.newFixedThreadPool(threads);
+	}
+
+	/**
+	 * Waits for the oldest file, prints its report and gives its parser back to
+	 * the pool.
+	 */
+	private static void printNext(PrintStream out, MyArrayQueue<String> pendingNames,
+			MyArrayQueue<Future<Result>> pending, ParserPool parsers) throws EmptyQueueException, InterruptedException
+	{
+		String fileName = pendingNames.dequeue();
+		Result result = await(pending.dequeue());
+		if (result == null)
+		{
+			Driver.printReport(out, fileName, null);
+			return;
+		}
+		Driver.printReport(out, fileName, result.errors);
+		parsers.release(result.parser);
+	}
+
+	private static Result await(Future<Result> result) throws InterruptedException
+	{
+		try
+		{
+			return result.get();
+		} catch (ExecutionException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * The errors of one file and the parser they belong to.
+	 */
+	private static class Result
+	{
+		final Parser parser;
+		final ErrorBuffer errors;
+
+		Result(Parser parser, ErrorBuffer errors)
+		{
+			this.parser = parser;
+			this.errors = errors;
+		}
+	}
+}
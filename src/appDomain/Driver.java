@@ -1,45 +1,227 @@
 package appDomain;
 
-import implementations.MyQueue;
+import java.io.PrintStream;
+
+import implementations.ErrorBuffer;
 import implementations.Parser;
+import implementations.ValidationError;
+import implementations.ValidationMetrics;
 
 public class Driver
 {
 	public static void main(String[] args)
 	{
 		// setup
-		String fileName = null;
-		 // Parse command line arguments
-        for (String arg : args) {
-            if (arg.startsWith("-f")) {
-                fileName = arg.substring(2);}
-                
-		// call parser
 		Parser MyParser = new Parser();
+		int threads = Runtime.getRuntime().availableProcessors();
+		boolean virtualThreads = false;
+		boolean batch = false;
+		boolean summary = false;
+		boolean jmx = false;
 
+		// Parse command line options
+		for (String arg : args)
+		{
 			try
 			{
-				// create header
-				System.out.println("\nParsing " + fileName + " for errors.\n");
-
-				System.out.println(" ================ ERROR LOG ================ \n");
-
-				// run the parser on the supplied file
-				MyQueue<String> ErrorsFound = MyParser.ParseXML(fileName);
-				if (ErrorsFound.isEmpty())
+				if (arg.equals("-m"))
+				{
+					MyParser.setMemoryMapped(true);
+				} else if (arg.startsWith("-p"))
 				{
-					System.out.println("No errors found.\n");
-				} else
+					MyParser.setParallelism(arg.length() > 2 ? Integer.parseInt(arg.substring(2))
+							: Runtime.getRuntime().availableProcessors());
+				} else if (arg.startsWith("-e"))
 				{
-					while (!ErrorsFound.isEmpty())
+					MyParser.setMaxErrors(Integer.parseInt(arg.substring(2)));
+				} else if (arg.startsWith("-n"))
+				{
+					MyParser.setMaxDepth(Integer.parseInt(arg.substring(2)));
+				} else if (arg.startsWith("-t"))
+				{
+					threads = Integer.parseInt(arg.substring(2));
+					if (threads < 1)
 					{
-						System.out.println(ErrorsFound.peek());
-						ErrorsFound.dequeue();
+						throw new IllegalArgumentException("Thread count must be at least 1.");
 					}
+				} else if (arg.equals("-v"))
+				{
+					virtualThreads = true;
+				} else if (arg.equals("-j"))
+				{
+					summary = true;
+				} else if (arg.equals("-x"))
+				{
+					jmx = true;
+				} else if (arg.startsWith("-d") || arg.startsWith("-g") || arg.equals("-s"))
+				{
+					batch = true;
 				}
+			} catch (NumberFormatException e)
+			{
+				System.out.println("Invalid option " + arg + ": expected a whole number after " + arg.substring(0, 2)
+						+ ".");
+				printUsage(System.out);
+				return;
+			} catch (IllegalArgumentException e)
+			{
+				System.out.println("Invalid option " + arg + ": " + e.getMessage());
+				printUsage(System.out);
+				return;
+			}
+		}
+
+		ValidationMetrics metrics = null;
+		if (summary || jmx)
+		{
+			metrics = new ValidationMetrics();
+			MyParser.setMetrics(metrics);
+		}
+		if (jmx)
+		{
+			try
+			{
+				metrics.register();
 			} catch (Exception e)
 			{
-				System.out.println("Something went wrong with the file.");
+				System.out.println("Could not expose the metrics over JMX: " + e.getMessage());
+			}
+		}
+
+		if (batch)
+		{
+			runBatch(MyParser, args, threads, virtualThreads);
+		} else
+		{
+			// Parse command line files; each report is printed before the next file
+			// is read, so one parser's buffers can serve them all
+			MyParser.setReusable(true);
+			for (String arg : args)
+			{
+				if (arg.startsWith("-f"))
+				{
+					String fileName = arg.substring(2);
+					printReport(System.out, fileName, validate(MyParser, fileName));
+				}
+			}
+		}
+
+		if (summary)
+		{
+			System.out.println(metrics.getSummary());
+		}
+	}
+
+	/**
+	 * Prints the command line options.
+	 * 
+	 * @param out the stream to print to
+	 */
+	static void printUsage(PrintStream out)
+	{
+		out.println("Usage: java -jar Parser.jar [options] -f<file> ...");
+		out.println("  -f<file>       parse a single file (may be repeated)");
+		out.println("  -m             memory map files instead of reading them through a Reader");
+		out.println("  -p, -p<n>      validate each large file in parallel chunks on n threads");
+		out.println("  -d<directory>  parse every .xml file under a directory");
+		out.println("  -g<glob>       parse every file matching a glob, e.g. -g\"res/*.xml\"");
+		out.println("  -s             parse every file named on standard input, one per line");
+		out.println("  -e<n>          stop after n errors per file");
+		out.println("  -n<n>          report tags nested more than n deep and stop");
+		out.println("  -t<n>          validate up to n files at once when using -d, -g or -s");
+		out.println("  -v             use virtual threads for those workers when the JVM supports them");
+		out.println("  -j             print counts and timings of the whole run as JSON");
+		out.println("  -x             expose the same metrics over JMX while the run lasts");
+	}
+
+	/**
+	 * Validates every file named by -f, -d (directory), -g (glob) and -s (names
+	 * on standard input) concurrently, printing reports in argument order.
+	 */
+	private static void runBatch(Parser MyParser, String[] args, int threads, boolean virtualThreads)
+	{
+		BatchValidator batch = new BatchValidator(MyParser, threads, virtualThreads);
+		try
+		{
+			for (String arg : args)
+			{
+				if (arg.startsWith("-f"))
+				{
+					batch.addFile(arg.substring(2));
+				} else if (arg.startsWith("-d"))
+				{
+					batch.addDirectory(arg.substring(2));
+				} else if (arg.startsWith("-g"))
+				{
+					batch.addGlob(arg.substring(2));
+				} else if (arg.equals("-s"))
+				{
+					batch.addFileList(System.in);
+				}
+			}
+			batch.run(System.out);
+		} catch (Exception e)
+		{
+			System.out.println("Something went wrong with the batch: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Parses one file, returning null if the file could not be parsed.
+	 * 
+	 * @param MyParser the parser to use
+	 * @param fileName the file to parse
+	 * @return the errors found, or null if something went wrong
+	 */
+	static ErrorBuffer validate(Parser MyParser, String fileName)
+	{
+		try
+		{
+			return MyParser.validate(fileName);
+		} catch (Exception e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Prints the error report of one file. Error messages are only built here, as
+	 * each one is printed.
+	 * 
+	 * @param out         the stream to print to
+	 * @param fileName    the file that was parsed
+	 * @param ErrorsFound the errors found, or null if the file could not be parsed
+	 */
+	static void printReport(PrintStream out, String fileName, ErrorBuffer ErrorsFound)
+	{
+		// create header
+		out.println("\nParsing " + fileName + " for errors.\n");
+
+		out.println(" ================ ERROR LOG ================ \n");
+
+		if (ErrorsFound == null)
+		{
+			out.println("Something went wrong with the file.");
+		} else if (ErrorsFound.isEmpty())
+		{
+			out.println("No errors found.\n");
+		} else
+		{
+			for (int i = 0; i < ErrorsFound.size(); i++)
+			{
+				out.println(ErrorsFound.format(i));
+			}
+			int last = ErrorsFound.size() - 1;
+			if (ErrorsFound.isTruncated() && ErrorsFound.getKind(last) == ValidationError.DEPTH_EXCEEDED)
+			{
+				out.println("Stopped at the nesting depth limit; the rest of the file was not checked.");
+			} else if (ErrorsFound.isTruncated())
+			{
+				out.println("Stopped after " + ErrorsFound.size() + " errors; the rest of the file was not checked.");
+			} else if (ErrorsFound.getOmittedUnclosedTags() > 0)
+			{
+				out.println("Stopped after " + ErrorsFound.size() + " errors; " + ErrorsFound.getOmittedUnclosedTags()
+						+ " more unclosed tags were not listed.");
 			}
 		}
 	}
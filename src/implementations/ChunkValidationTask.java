@@ -0,0 +1,77 @@
+package implementations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class validates a run of chunks of a memory mapped file on a fork/join
+ * pool. A run of one chunk is tokenized with a deferring {@link TagMatcher};
+ * longer runs are split in half, both halves are validated in parallel, and the
+ * right-hand result is appended to the left-hand one so the chunks stay in
+ * file order.
+ */
+@SuppressWarnings("serial")
+public class ChunkValidationTask extends RecursiveTask<TagMatcher>
+{
+	private final Parser parser;
+	private final ValidationMetrics metrics;
+	private final FileChannel channel;
+	private final long[] bounds;
+	private final int first;
+	private final int last;
+
+	/**
+	 * Creates a task for the chunks from first (inclusive) to last (exclusive).
+	 * Chunk i covers the bytes from bounds[i] up to bounds[i + 1].
+	 *
+	 * @param parser  the parser whose settings the chunks are validated with
+	 * @param metrics where to add the tokens read and the time taken, or null
+	 * @param channel the open file
+	 * @param bounds  the chunk boundaries, each at the start of a line
+	 * @param first   the first chunk to validate
+	 * @param last    one past the last chunk to validate
+	 */
+	public ChunkValidationTask(Parser parser, ValidationMetrics metrics, FileChannel channel, long[] bounds, int first,
+			int last)
+	{
+		this.parser = parser;
+		this.metrics = metrics;
+		this.channel = channel;
+		this.bounds = bounds;
+		this.first = first;
+		this.last = last;
+	}
+
+	@Override
+	protected TagMatcher compute()
+	{
+		if (last - first == 1)
+		{
+			return validateChunk();
+		}
+		int middle = (first + last) >>> 1;
+		ChunkValidationTask left = new ChunkValidationTask(parser, metrics, channel, bounds, first, middle);
+		ChunkValidationTask right = new ChunkValidationTask(parser, metrics, channel, bounds, middle, last);
+		left.fork();
+		TagMatcher rightResult = right.compute();
+		TagMatcher result = left.join();
+		result.append(rightResult);
+		return result;
+	}
+
+	private TagMatcher validateChunk()
+	{
+		TagMatcher matcher = parser.createMatcher(true);
+		XMLTokenizer tokenizer = new MappedXMLTokenizer(channel, bounds[first], bounds[first + 1]);
+		try
+		{
+			Parser.match(tokenizer, matcher, metrics);
+			return matcher;
+		} catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,290 @@
+package implementations;
+
+/**
+ * This class stores validation errors column by column in primitive lists, so
+ * recording an error allocates nothing beyond occasional array growth. Tags are
+ * kept as symbol ids. Names that only ever appear in errors, such as the markup
+ * of invalid tags and end tags that match no start tag, are kept by the buffer
+ * itself under ids below -1, so garbage markup never grows the symbol table.
+ * Errors are turned into {@link ValidationError} objects or message text only
+ * when they are read back out.
+ */
+public class ErrorBuffer
+{
+	private final TagSymbolTable symbols;
+	private final IntArrayList kinds = new IntArrayList();
+	private final IntArrayList lines = new IntArrayList();
+	private final IntArrayList columns = new IntArrayList();
+	private final LongArrayList offsets = new LongArrayList();
+	private final IntArrayList tagIds = new IntArrayList();
+	private final IntArrayList otherIds = new IntArrayList();
+	private final MyArrayList<String> names = new MyArrayList<>();
+	private boolean truncated;
+	private int omittedUnclosedTags;
+
+	/**
+	 * Creates an empty buffer whose tag ids refer to the given symbol table.
+	 *
+	 * @param symbols the table tag ids are looked up in
+	 */
+	public ErrorBuffer(TagSymbolTable symbols)
+	{
+		this.symbols = symbols;
+	}
+
+	/**
+	 * Records an error about one or two tags.
+	 *
+	 * @param kind    the kind of error
+	 * @param line    the line of the error, or 0 if none
+	 * @param column  the column of the error, or 0 if none
+	 * @param offset  the position of the error in the input, or -1 if none
+	 * @param tagId   the id of the tag involved, or of the markup of an invalid
+	 *                tag, in the symbol table or from {@link #addName(String)}
+	 * @param otherId the id of the closing tag of an improper nesting, or -1
+	 */
+	public void add(int kind, int line, int column, long offset, int tagId, int otherId)
+	{
+		kinds.add(kind);
+		lines.add(line);
+		columns.add(column);
+		offsets.add(offset);
+		tagIds.add(tagId);
+		otherIds.add(otherId);
+	}
+
+	/**
+	 * Keeps a name that is not in the symbol table, for an error that is the only
+	 * place it appears, and returns the id to record it under. The name is
+	 * dropped when the buffer is cleared.
+	 *
+	 * @param name the tag name or markup
+	 * @return the id of the name, below -1
+	 */
+	public int addName(String name)
+	{
+		names.add(name);
+		return -1 - names.size();
+	}
+
+	/**
+	 * Returns the number of errors recorded.
+	 *
+	 * @return the number of errors.
+	 */
+	public int size()
+	{
+		return kinds.size();
+	}
+
+	/**
+	 * Checks if any errors have been recorded.
+	 *
+	 * @return true if there are no errors, false if not.
+	 */
+	public boolean isEmpty()
+	{
+		return kinds.isEmpty();
+	}
+
+	/**
+	 * Returns true if validation stopped at a limit before the whole input was
+	 * read, so the rest of the input was not checked.
+	 *
+	 * @return true if the input was not read to the end, false if it was.
+	 */
+	public boolean isTruncated()
+	{
+		return truncated;
+	}
+
+	/**
+	 * Marks whether validation stopped before the whole input was read.
+	 *
+	 * @param truncated true if the input was not read to the end.
+	 */
+	public void setTruncated(boolean truncated)
+	{
+		this.truncated = truncated;
+	}
+
+	/**
+	 * Returns the number of start tags left unclosed at the end of the input that
+	 * were not recorded because the error limit was reached while reporting
+	 * them. The input itself was read to the end.
+	 *
+	 * @return the number of unclosed start tags not recorded.
+	 */
+	public int getOmittedUnclosedTags()
+	{
+		return omittedUnclosedTags;
+	}
+
+	/**
+	 * Sets the number of unclosed start tags not recorded because of the error
+	 * limit.
+	 *
+	 * @param omittedUnclosedTags the number of unclosed start tags not recorded.
+	 */
+	public void setOmittedUnclosedTags(int omittedUnclosedTags)
+	{
+		this.omittedUnclosedTags = omittedUnclosedTags;
+	}
+
+	/**
+	 * Removes every error, keeping the storage for reuse.
+	 */
+	public void clear()
+	{
+		kinds.clear();
+		lines.clear();
+		columns.clear();
+		offsets.clear();
+		tagIds.clear();
+		otherIds.clear();
+		names.clear();
+		truncated = false;
+		omittedUnclosedTags = 0;
+	}
+
+	/**
+	 * Returns the kind of the error at the given position.
+	 *
+	 * @param index the position of the error.
+	 * @return one of the kind constants of {@link ValidationError}.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public int getKind(int index)
+	{
+		return kinds.get(index);
+	}
+
+	/**
+	 * Returns the line of the error at the given position.
+	 *
+	 * @param index the position of the error.
+	 * @return the line, or 0 for an error with no position.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public int getLine(int index)
+	{
+		return lines.get(index);
+	}
+
+	/**
+	 * Returns the column of the error at the given position, counting each
+	 * character, tabs included, as one column from 1.
+	 *
+	 * @param index the position of the error.
+	 * @return the column, or 0 for an error with no position.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public int getColumn(int index)
+	{
+		return columns.get(index);
+	}
+
+	/**
+	 * Returns where the error at the given position starts in the input.
+	 *
+	 * @param index the position of the error.
+	 * @return the offset from the start of the input, or -1 for an error with no
+	 *         position.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public long getOffset(int index)
+	{
+		return offsets.get(index);
+	}
+
+	/**
+	 * Returns the id of the tag, or of the markup of an invalid tag, involved in
+	 * the error at the given position. Ids of 0 and up are in the symbol table;
+	 * ids below -1 are names kept only by this buffer.
+	 *
+	 * @param index the position of the error.
+	 * @return the id of the tag.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public int getTagId(int index)
+	{
+		return tagIds.get(index);
+	}
+
+	/**
+	 * Returns the id of the closing tag of an improper nesting at the given
+	 * position.
+	 *
+	 * @param index the position of the error.
+	 * @return the id of the closing tag, or -1 for other kinds of error.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public int getOtherTagId(int index)
+	{
+		return otherIds.get(index);
+	}
+
+	/**
+	 * Returns the symbol table that tag ids in this buffer refer to.
+	 *
+	 * @return the symbol table.
+	 */
+	public TagSymbolTable getSymbols()
+	{
+		return symbols;
+	}
+
+	/**
+	 * Returns the error at the given position as an object. A name kept only by
+	 * this buffer is given with a tag id of -1.
+	 *
+	 * @param index the position of the error.
+	 * @return the error.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public ValidationError get(int index)
+	{
+		int tagId = tagIds.get(index);
+		int otherId = otherIds.get(index);
+		return new ValidationError(kinds.get(index), lines.get(index), columns.get(index), offsets.get(index),
+				Math.max(tagId, -1), Math.max(otherId, -1), tagName(tagId), tagName(otherId));
+	}
+
+	/**
+	 * Builds the message of the error at the given position.
+	 *
+	 * @param index the position of the error.
+	 * @return the error message.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public String format(int index)
+	{
+		return ValidationError.describe(kinds.get(index), lines.get(index), tagName(tagIds.get(index)),
+				tagName(otherIds.get(index)));
+	}
+
+	/**
+	 * Builds the message of every error, in order, and adds it to a queue.
+	 *
+	 * @param errorQ the queue to add messages to.
+	 */
+	public void formatTo(MyQueue<String> errorQ)
+	{
+		for (int i = 0; i < size(); i++)
+		{
+			errorQ.enqueue(format(i));
+		}
+	}
+
+	/**
+	 * Returns the name with the given id, from the symbol table or this buffer.
+	 */
+	String tagName(int tagId)
+	{
+		if (tagId >= 0)
+		{
+			return symbols.name(tagId);
+		}
+		return tagId == -1 ? null : names.get(-2 - tagId);
+	}
+}
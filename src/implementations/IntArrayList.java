@@ -0,0 +1,247 @@
+package implementations;
+
+import utilities.IntIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents an array-based list of <code>int</code> values. It has
+ * the same operations as {@link MyArrayList} but keeps the values in an
+ * <code>int[]</code>, so adding a value never boxes it into an Integer and the
+ * list costs four bytes per element.
+ */
+public class IntArrayList {
+    private int[] array;
+    private int size;
+    private static final int INITIAL_CAPACITY = 10;
+
+    /**
+     * Constructs an empty list with an initial capacity of 10.
+     */
+    public IntArrayList() {
+        array = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements, keeping the current array for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Adds a value at a specified index in the list.
+     *
+     * @param index The position to add the value.
+     * @param value The value to add.
+     * @return true If the value is added successfully.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public boolean add(int index, int value) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index out of bounds.");
+        ensureCapacity();
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * Adds a value to the end of the list.
+     *
+     * @param value The value to add.
+     * @return true If the value is added successfully.
+     */
+    public boolean add(int value) {
+        ensureCapacity();
+        array[size++] = value;
+        return true;
+    }
+
+    /**
+     * Adds all values from another list to the end of this list.
+     *
+     * @param values The list of values to add.
+     * @return true If the values were added successfully.
+     * @throws NullPointerException If the list is null.
+     */
+    public boolean addAll(IntArrayList values) {
+        if (values == null) throw new NullPointerException("The list to add is null.");
+        int count = values.size;
+        if (size + count > array.length) {
+            array = java.util.Arrays.copyOf(array, Math.max(size + count, array.length * 2));
+        }
+        System.arraycopy(values.array, 0, array, size, count);
+        size += count;
+        return true;
+    }
+
+    /**
+     * Gets the value at a specified index.
+     *
+     * @param index The position of the value to retrieve.
+     * @return The value at the index.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Removes the value at a specified index.
+     *
+     * @param index The position of the value to remove.
+     * @return The removed value.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public int remove(int index) {
+        checkIndex(index);
+        int removed = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes the first occurrence of a value from the list.
+     *
+     * @param value The value to remove.
+     * @return true If the value was found and removed, false if not.
+     */
+    public boolean removeValue(int value) {
+        int index = indexOf(value);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Replaces the value at a specified index.
+     *
+     * @param index The position of the value to replace.
+     * @param value The new value.
+     * @return The value that was replaced.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int oldValue = array[index];
+        array[index] = value;
+        return oldValue;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true If the list is empty, false if not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the list contains a value.
+     *
+     * @param value The value to search for.
+     * @return true If the value is found, false if not.
+     */
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of a value, or -1 if the list
+     * does not contain it.
+     *
+     * @param value The value to search for.
+     * @return The index of the value, or -1 if not found.
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copies the values into an array, or into a new array if the one given is
+     * too small.
+     *
+     * @param toHold The array to hold the values, if large enough.
+     * @return The array containing all the values in the list.
+     * @throws NullPointerException If the array is null.
+     */
+    public int[] toArray(int[] toHold) {
+        if (toHold == null) throw new NullPointerException("The array can't be null.");
+        if (toHold.length < size) {
+            return toArray();
+        }
+        System.arraycopy(array, 0, toHold, 0, size);
+        return toHold;
+    }
+
+    /**
+     * Converts the list to a new array.
+     *
+     * @return An array with all values in the list.
+     */
+    public int[] toArray() {
+        return java.util.Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Returns an iterator over the values in the list that does not box them.
+     *
+     * @return An iterator over the values in the list.
+     */
+    public IntIterator iterator() {
+        return new IntIterator() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            public int next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return array[current++];
+            }
+        };
+    }
+
+    /**
+     * Ensures that the array has room for one more value, doubling it if full.
+     */
+    private void ensureCapacity() {
+        if (size == array.length) {
+            array = java.util.Arrays.copyOf(array, array.length * 2);
+        }
+    }
+
+    /**
+     * Checks if an index is valid.
+     *
+     * @param index The index to check.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index out of bounds.");
+    }
+}
@@ -0,0 +1,251 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.StackADT;
+
+/**
+ * This class represents a stack of <code>int</code> values stored in an
+ * <code>int[]</code>. It implements {@link StackADT} for Integer values, and
+ * also has primitive methods that never box: {@link #push(int)},
+ * {@link #popInt()} and {@link #peekInt()}, plus {@link #popUnchecked()} and
+ * {@link #peekUnchecked()} for callers that already know the stack is not
+ * empty. Pushing only allocates when the array has to double.
+ *
+ * A stack may be given a capacity, in which case the array never grows past
+ * it, {@link #stackOverflow()} reports when it is reached and pushing onto a
+ * full stack throws IllegalStateException.
+ *
+ * Like the other stacks, iteration and toArray go from the top of the stack to
+ * the bottom. {@link #get(int)} reads a value by its position from the bottom.
+ */
+@SuppressWarnings("serial")
+public class IntStack implements StackADT<Integer> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+    private final int capacity;
+
+    /**
+     * Constructs an empty stack with room for 16 values before it grows.
+     */
+    public IntStack() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs an empty stack that holds at most capacity values.
+     *
+     * @param capacity The most values the stack can hold.
+     * @throws IllegalArgumentException If the capacity is less than 1.
+     */
+    public IntStack(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be at least 1.");
+        this.capacity = capacity;
+        elements = new int[Math.min(INITIAL_CAPACITY, capacity)];
+    }
+
+    /**
+     * Pushes a value onto the top of the stack.
+     *
+     * @param value The value to push.
+     * @throws IllegalStateException If the stack is at its capacity.
+     */
+    public void push(int value) {
+        if (size == elements.length) {
+            if (size == capacity) throw new IllegalStateException("Stack is full.");
+            elements = Arrays.copyOf(elements, (int) Math.min(size * 2L, capacity));
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Removes and returns the value at the top of the stack.
+     *
+     * @return The value that was on top.
+     * @throws EmptyStackException If the stack is empty.
+     */
+    public int popInt() throws EmptyStackException {
+        if (size == 0) throw new EmptyStackException();
+        return elements[--size];
+    }
+
+    /**
+     * Returns the value at the top of the stack without removing it.
+     *
+     * @return The value on top.
+     * @throws EmptyStackException If the stack is empty.
+     */
+    public int peekInt() throws EmptyStackException {
+        if (size == 0) throw new EmptyStackException();
+        return elements[size - 1];
+    }
+
+    /**
+     * Removes and returns the value at the top of the stack without checking that
+     * there is one. The caller must know the stack is not empty.
+     *
+     * @return The value that was on top.
+     */
+    public int popUnchecked() {
+        return elements[--size];
+    }
+
+    /**
+     * Returns the value at the top of the stack without checking that there is
+     * one. The caller must know the stack is not empty.
+     *
+     * @return The value on top.
+     */
+    public int peekUnchecked() {
+        return elements[size - 1];
+    }
+
+    /**
+     * Returns the value at a position counted from the bottom of the stack, so
+     * index 0 is the value pushed first.
+     *
+     * @param index The position from the bottom.
+     * @return The value at that position.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index out of bounds.");
+        return elements[index];
+    }
+
+    @Override
+    public void push(Integer toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("Cannot add null element.");
+        push(toAdd.intValue());
+    }
+
+    @Override
+    public Integer pop() throws EmptyStackException {
+        return popInt();
+    }
+
+    @Override
+    public Integer peek() throws EmptyStackException {
+        return peekInt();
+    }
+
+    /**
+     * Removes every value, keeping the current array.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = elements[size - 1 - i];
+        }
+        return array;
+    }
+
+    @Override
+    public Integer[] toArray(Integer[] holder) throws NullPointerException {
+        if (holder == null) throw new NullPointerException("The array can't be null.");
+        if (holder.length < size) {
+            holder = new Integer[size];
+        }
+        for (int i = 0; i < size; i++) {
+            holder[i] = elements[size - 1 - i];
+        }
+        if (holder.length > size) {
+            holder[size] = null;
+        }
+        return holder;
+    }
+
+    @Override
+    public boolean contains(Integer toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException("Can't search for a null element.");
+        return search(toFind) != -1;
+    }
+
+    /**
+     * Returns the 1-based position of a value counted from the top of the stack,
+     * or -1 if it is not on the stack.
+     *
+     * @param toFind The value to look for.
+     * @return The position from the top, or -1 if not found.
+     */
+    @Override
+    public int search(Integer toFind) {
+        if (toFind == null) return -1;
+        int value = toFind;
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == value) {
+                return size - i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private int current = size - 1;
+
+            @Override
+            public boolean hasNext() {
+                return current >= 0;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return elements[current--];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(StackADT<Integer> that) {
+        if (that == null || this.size() != that.size()) return false;
+        Iterator<Integer> thatIterator = that.iterator();
+        for (int i = size - 1; i >= 0; i--) {
+            if (!thatIterator.next().equals(elements[i])) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the stack holds as many values as its capacity, so the next
+     * push would fail.
+     *
+     * @return true if the stack is full.
+     */
+    @Override
+    public boolean stackOverflow() {
+        return size == capacity;
+    }
+
+    /**
+     * Returns the most values the stack can hold.
+     *
+     * @return The capacity of the stack.
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,178 @@
+package implementations;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class tokenizes an XML file by memory mapping it instead of decoding it
+ * through a Reader. The raw UTF-8 bytes are widened straight into the read
+ * buffer without charset decoding; every markup character the tokenizer looks
+ * for is ASCII, and UTF-8 never uses ASCII values inside multi-byte sequences,
+ * so tags are found correctly. Tag names are only decoded when they are turned
+ * into Strings. Columns and offsets are counted in bytes.
+ *
+ * Files are mapped one window at a time, so files larger than 2 GB (the limit
+ * of a single mapping) are handled by remapping as the tokenizer moves along.
+ *
+ * Mapping saves the copy into a read buffer and the charset decoding that a
+ * Reader does, but not every copy: the tokenizer scans chars, so each run of
+ * bytes is still copied out of the mapping in bulk and then widened into the
+ * char buffer, one more pass over the input. Scanning the mapped bytes in place
+ * would need a tokenizer working on bytes.
+ */
+public class MappedXMLTokenizer extends XMLTokenizer
+{
+	private static final long WINDOW_SIZE = 1L << 26;
+
+	private FileChannel channel;
+	private boolean ownsChannel;
+	private long end;
+	private long mapped;
+	private MappedByteBuffer window;
+	private final byte[] bytes;
+
+	/**
+	 * Creates a tokenizer over the whole of the given file. The file is closed
+	 * when the tokenizer is closed.
+	 *
+	 * @param fileName the file to tokenize.
+	 * @throws IOException if the file cannot be opened.
+	 */
+	public MappedXMLTokenizer(String fileName) throws IOException
+	{
+		super(null);
+		this.bytes = new byte[buf.length];
+		open(fileName);
+	}
+
+	/**
+	 * Creates a tokenizer over the bytes from start (inclusive) to end (exclusive)
+	 * of an open channel. The channel is left open when the tokenizer is closed,
+	 * so several tokenizers can share it.
+	 *
+	 * @param channel the channel to map.
+	 * @param start   the position of the first byte to tokenize.
+	 * @param end     the position just past the last byte to tokenize.
+	 */
+	public MappedXMLTokenizer(FileChannel channel, long start, long end)
+	{
+		super(null);
+		this.channel = channel;
+		this.ownsChannel = false;
+		this.mapped = start;
+		this.end = end;
+		this.bytes = new byte[buf.length];
+	}
+
+	/**
+	 * Starts over on the whole of another file, keeping the read buffers. The
+	 * previous file must already be closed. The new file is closed when the
+	 * tokenizer is closed.
+	 *
+	 * @param fileName the file to tokenize.
+	 * @throws IOException if the file cannot be opened.
+	 */
+	public void reset(String fileName) throws IOException
+	{
+		reset();
+		window = null;
+		open(fileName);
+	}
+
+	/**
+	 * Opens the whole of a file to be closed with this tokenizer. The file is
+	 * closed again if its size cannot be read, as no caller could close it.
+	 */
+	private void open(String fileName) throws IOException
+	{
+		FileChannel opened = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+		try
+		{
+			end = opened.size();
+		} catch (IOException | RuntimeException e)
+		{
+			try
+			{
+				opened.close();
+			} catch (IOException closing)
+			{
+				e.addSuppressed(closing);
+			}
+			throw e;
+		}
+		channel = opened;
+		ownsChannel = true;
+		mapped = 0;
+	}
+
+	/**
+	 * Returns the current tag name decoded from UTF-8.
+	 *
+	 * @return the current tag name.
+	 */
+	@Override
+	public String getName()
+	{
+		char[] name = getNameBuffer();
+		int length = getNameLength();
+		for (int i = 0; i < length; i++)
+		{
+			if (name[i] >= 0x80)
+			{
+				byte[] raw = new byte[length];
+				for (int j = 0; j < length; j++)
+				{
+					raw[j] = (byte) name[j];
+				}
+				return new String(raw, StandardCharsets.UTF_8);
+			}
+		}
+		return super.getName();
+	}
+
+	/**
+	 * Releases the current mapping and closes the file if this tokenizer opened
+	 * it.
+	 *
+	 * @throws IOException if the file cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		window = null;
+		if (ownsChannel)
+		{
+			channel.close();
+		}
+	}
+
+	/**
+	 * Copies the next run of mapped bytes into the read buffer, mapping the next
+	 * window of the file once the current one is used up.
+	 */
+	@Override
+	protected int fill() throws IOException
+	{
+		if (window == null || !window.hasRemaining())
+		{
+			if (mapped >= end)
+			{
+				return -1;
+			}
+			long size = Math.min(WINDOW_SIZE, end - mapped);
+			window = channel.map(FileChannel.MapMode.READ_ONLY, mapped, size);
+			mapped += size;
+		}
+		int count = Math.min(bytes.length, window.remaining());
+		window.get(bytes, 0, count);
+		for (int i = 0; i < count; i++)
+		{
+			buf[i] = (char) (bytes[i] & 0xFF);
+		}
+		return count;
+	}
+}
@@ -9,19 +9,56 @@ import java.util.NoSuchElementException;
  * This class represents an array-based list that supports basic list
  * operations, like adding, removing, retrieving, and setting elements.
  *
+ * When the array is full it grows by a growth factor, 2 unless one is given.
+ * Callers that know how big a list will get can size it up front with the
+ * capacity constructor or {@link #ensureCapacity(int)}, give back unused space
+ * with {@link #trimToSize()}, and empty it for refilling with
+ * {@link #clear(boolean)} without giving up the array.
+ *
  * @param <E> The type of elements held in this list.
  */
 public class MyArrayList<E> implements ListADT<E> {
     private E[] array;
     private int size;
+    private final double growthFactor;
     private static final int INITIAL_CAPACITY = 10;
+    private static final double DEFAULT_GROWTH_FACTOR = 2.0;
+    // some JVMs reserve a few header words in an array
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
     
     /**
      * Constructs an empty list with an initial capacity of 10 which has been declared in the variables.
      */
     public MyArrayList() {
-        array = (E[]) new Object[INITIAL_CAPACITY];
+        this(INITIAL_CAPACITY, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * Constructs an empty list with room for the given number of elements before
+     * it grows.
+     *
+     * @param initialCapacity The number of elements the list can hold before it grows.
+     * @throws IllegalArgumentException If the capacity is negative.
+     */
+    public MyArrayList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * Constructs an empty list with the given initial capacity that grows by the
+     * given factor whenever it is full.
+     *
+     * @param initialCapacity The number of elements the list can hold before it grows.
+     * @param growthFactor How many times larger the array gets each time it grows.
+     * @throws IllegalArgumentException If the capacity is negative or the growth
+     *         factor is not greater than 1.
+     */
+    public MyArrayList(int initialCapacity, double growthFactor) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Capacity can't be negative.");
+        if (!(growthFactor > 1.0)) throw new IllegalArgumentException("Growth factor must be greater than 1.");
+        array = (E[]) new Object[initialCapacity];
         size = 0;
+        this.growthFactor = growthFactor;
     }
     
     /**
@@ -39,7 +76,21 @@ public class MyArrayList<E> implements ListADT<E> {
      */
     @Override
     public void clear() {
-        array = (E[]) new Object[INITIAL_CAPACITY];
+        clear(false);
+    }
+
+    /**
+     * Clears the list, either keeping the current array so that refilling the
+     * list does not grow it again, or going back to a new array of 10.
+     *
+     * @param retainArray true to keep the array, with its elements nulled out.
+     */
+    public void clear(boolean retainArray) {
+        if (retainArray) {
+            java.util.Arrays.fill(array, 0, size, null);
+        } else {
+            array = (E[]) new Object[INITIAL_CAPACITY];
+        }
         size = 0;
     }
 
@@ -56,7 +107,7 @@ public class MyArrayList<E> implements ListADT<E> {
     public boolean add(int index, E itemToAdd) {
         if (itemToAdd == null) throw new NullPointerException("Can't add an element that is null to the list.");
         if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index out of bounds.");
-        ensureCapacity();
+        ensureCapacity(size + 1);
         System.arraycopy(array, index, array, index + 1, size - index);
         array[index] = itemToAdd;
         size++;
@@ -73,24 +124,40 @@ public class MyArrayList<E> implements ListADT<E> {
     @Override
     public boolean add(E itemToAdd) {
         if (itemToAdd == null) throw new NullPointerException("Can't add an element that is null to the list.");
-        ensureCapacity();
+        ensureCapacity(size + 1);
         array[size++] = itemToAdd;
         return true;
     }
 
     /**
-     * Adds all elements from the other list to this list.
+     * Adds all elements from the other list to this list. The array grows at most
+     * once and the elements are block copied: straight out of the other list's
+     * array when it is a MyArrayList, otherwise out of its toArray().
      *
      * @param itemToAdd The list of elements that will be added.
      * @return true If the elements were added successfully to the list.
-     * @throws NullPointerException If the specified collection is null.
+     * @throws NullPointerException If the specified collection is null or holds a null element.
      */
     @Override
     public boolean addAll(ListADT<? extends E> itemToAdd) {
         if (itemToAdd == null) throw new NullPointerException("The element's to be added is null.");
-        for (Iterator<? extends E> it = itemToAdd.iterator(); it.hasNext(); ) {
-            add(it.next());
+        Object[] source;
+        int count;
+        if (itemToAdd instanceof MyArrayList) {
+            count = itemToAdd.size();
+            ensureCapacity(size + count);
+            // read the array after growing, in case the list is adding itself
+            source = ((MyArrayList<?>) itemToAdd).array;
+        } else {
+            source = itemToAdd.toArray();
+            count = source.length;
+            for (Object element : source) {
+                if (element == null) throw new NullPointerException("Can't add an element that is null to the list.");
+            }
+            ensureCapacity(size + count);
         }
+        System.arraycopy(source, 0, array, size, count);
+        size += count;
         return true;
     }
 
@@ -262,16 +329,38 @@ public class MyArrayList<E> implements ListADT<E> {
     }
 
     /**
-     * Ensures that the array has enough space to store additional elements.
-     * If the current limit is reached, it will double.
+     * Ensures that the array can hold at least the given number of elements. If
+     * it can't, the array grows by the growth factor, or straight to the given
+     * capacity if that is larger.
+     *
+     * @param minCapacity The number of elements the list must be able to hold.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            int grown = (int) Math.min(MAX_CAPACITY, array.length * growthFactor);
+            array = java.util.Arrays.copyOf(array, Math.max(minCapacity, Math.max(grown, array.length + 1)));
+        }
+    }
+
+    /**
+     * Shrinks the array to the number of elements in the list, giving back any
+     * unused space.
      */
-    private void ensureCapacity() {
-        if (size == array.length) {
-            int newCapacity = array.length * 2;
-            array = java.util.Arrays.copyOf(array, newCapacity);
+    public void trimToSize() {
+        if (size < array.length) {
+            array = java.util.Arrays.copyOf(array, size);
         }
     }
 
+    /**
+     * Returns how many elements the list can hold before its array has to grow.
+     *
+     * @return The length of the array.
+     */
+    public int capacity() {
+        return array.length;
+    }
+
     /**
      * Checks if an index is valid.
      *
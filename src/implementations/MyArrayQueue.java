@@ -0,0 +1,202 @@
+package implementations;
+
+import java.util.NoSuchElementException;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * This class represents a queue stored in a circular array. The head and tail
+ * indices wrap around the end of the array, so enqueue and dequeue never shift
+ * elements or allocate nodes. The array length is always a power of two so
+ * wrapping is a bit mask, and the array doubles when it fills up.
+ *
+ * @param <E> The type of elements held in this queue.
+ */
+@SuppressWarnings({ "serial", "unchecked" })
+public class MyArrayQueue<E> implements QueueADT<E> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private E[] elements;
+    private int head;
+    private int tail;
+    private int size;
+
+    /**
+     * Constructs an empty queue with room for 16 elements before it grows.
+     */
+    public MyArrayQueue() {
+        elements = (E[]) new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds an element to the back of the queue, doubling the array if it is full.
+     *
+     * @param toAdd The element to add.
+     * @throws NullPointerException If the element is null.
+     */
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("Cannot add null element to the queue.");
+        if (size == elements.length) grow();
+        elements[tail] = toAdd;
+        tail = (tail + 1) & (elements.length - 1);
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     *
+     * @return The element that was at the front.
+     * @throws EmptyQueueException If the queue is empty.
+     */
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        if (isEmpty()) throw new EmptyQueueException("Queue is empty.");
+        E removed = elements[head];
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     *
+     * @return The element at the front.
+     * @throws EmptyQueueException If the queue is empty.
+     */
+    @Override
+    public E peek() throws EmptyQueueException {
+        if (isEmpty()) throw new EmptyQueueException("Queue is empty.");
+        return elements[head];
+    }
+
+    /**
+     * Removes every element, keeping the current array.
+     */
+    @Override
+    public void dequeueAll() {
+        for (int i = 0; i < size; i++) {
+            elements[index(i)] = null;
+        }
+        head = 0;
+        tail = 0;
+        size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException("Can't search for a null element.");
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        for (int i = 0; i < size; i++) {
+            if (elements[index(i)].equals(toFind)) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return elements[index(current++)];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == null || this.size() != that.size()) return false;
+        Iterator<E> thatIterator = that.iterator();
+        for (int i = 0; i < size; i++) {
+            if (!elements[index(i)].equals(thatIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array);
+        return array;
+    }
+
+    @Override
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) throw new NullPointerException("The array can't be null.");
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+        }
+        copyTo(holder);
+        if (holder.length > size) {
+            holder[size] = null;
+        }
+        return holder;
+    }
+
+    /**
+     * The queue grows as needed, so it is never full.
+     *
+     * @return false.
+     */
+    @Override
+    public boolean isFull() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Converts a position counted from the head into an array index.
+     */
+    private int index(int position) {
+        return (head + position) & (elements.length - 1);
+    }
+
+    /**
+     * Copies the elements, front first, into the start of an array using at most
+     * two block copies.
+     */
+    private void copyTo(Object[] target) {
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, target, 0, firstPart);
+        System.arraycopy(elements, 0, target, firstPart, size - firstPart);
+    }
+
+    /**
+     * Doubles the array, moving the elements so the head is at index 0.
+     */
+    private void grow() {
+        E[] larger = (E[]) new Object[elements.length * 2];
+        copyTo(larger);
+        elements = larger;
+        head = 0;
+        tail = size;
+    }
+}
@@ -0,0 +1,371 @@
+package implementations;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * This class represents a thread-safe queue with a fixed capacity, for handing
+ * work from producer threads to consumer threads. The elements are kept in a
+ * circular array that never grows, so {@link #isFull()} is meaningful.
+ *
+ * Besides the QueueADT methods, which never wait and fail when the queue is
+ * full or empty, it has blocking {@link #put(Object)} and {@link #take()} and
+ * timed {@link #offer(Object, long, TimeUnit)} and
+ * {@link #poll(long, TimeUnit)}. A producer that gets ahead of its consumer
+ * waits in put until there is room, so the queue applies backpressure instead
+ * of letting the backlog grow without limit.
+ *
+ * Every method holds one lock; iterating walks a snapshot taken when the
+ * iterator is created.
+ *
+ * @param <E> The type of elements held in this queue.
+ */
+@SuppressWarnings({ "serial", "unchecked" })
+public class MyBoundedBlockingQueue<E> implements QueueADT<E> {
+    private final E[] elements;
+    private int head;
+    private int size;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Constructs an empty queue that holds up to capacity elements.
+     *
+     * @param capacity The most elements the queue can hold.
+     * @throws IllegalArgumentException If the capacity is less than 1.
+     */
+    public MyBoundedBlockingQueue(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be at least 1.");
+        elements = (E[]) new Object[capacity];
+    }
+
+    /**
+     * Adds an element to the back of the queue without waiting.
+     *
+     * @param toAdd The element to add.
+     * @throws NullPointerException If the element is null.
+     * @throws IllegalStateException If the queue is full.
+     */
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("Cannot add null element to the queue.");
+        lock.lock();
+        try {
+            if (size == elements.length) throw new IllegalStateException("Queue is full.");
+            insert(toAdd);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the back of the queue, waiting for room if it is full.
+     *
+     * @param toAdd The element to add.
+     * @throws NullPointerException If the element is null.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void put(E toAdd) throws InterruptedException {
+        if (toAdd == null) throw new NullPointerException("Cannot add null element to the queue.");
+        lock.lockInterruptibly();
+        try {
+            while (size == elements.length) {
+                notFull.await();
+            }
+            insert(toAdd);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the back of the queue, waiting up to the given time for
+     * room if it is full.
+     *
+     * @param toAdd The element to add.
+     * @param timeout How long to wait.
+     * @param unit The unit of the timeout.
+     * @return true if the element was added, false if the time ran out first.
+     * @throws NullPointerException If the element is null.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public boolean offer(E toAdd, long timeout, TimeUnit unit) throws InterruptedException {
+        if (toAdd == null) throw new NullPointerException("Cannot add null element to the queue.");
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == elements.length) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            insert(toAdd);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue without waiting.
+     *
+     * @return The element that was at the front.
+     * @throws EmptyQueueException If the queue is empty.
+     */
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        lock.lock();
+        try {
+            if (size == 0) throw new EmptyQueueException("Queue is empty.");
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, waiting for one
+     * if the queue is empty.
+     *
+     * @return The element that was at the front.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, waiting up to
+     * the given time for one if the queue is empty.
+     *
+     * @param timeout How long to wait.
+     * @param unit The unit of the timeout.
+     * @return The element that was at the front, or null if the time ran out first.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E peek() throws EmptyQueueException {
+        lock.lock();
+        try {
+            if (size == 0) throw new EmptyQueueException("Queue is empty.");
+            return elements[head];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every element and wakes any producers waiting for room.
+     */
+    @Override
+    public void dequeueAll() {
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                elements[index(i)] = null;
+            }
+            head = 0;
+            size = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException("Can't search for a null element.");
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                if (elements[index(i)].equals(toFind)) {
+                    return i + 1;
+                }
+            }
+            return -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the queue, front first.
+     *
+     * @return An iterator over the elements in the queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        final Object[] snapshot = toArray();
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < snapshot.length;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return (E) snapshot[current++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == this) return true;
+        if (that == null) return false;
+        Object[] snapshot = toArray();
+        if (snapshot.length != that.size()) return false;
+        Iterator<E> thatIterator = that.iterator();
+        for (Object element : snapshot) {
+            if (!element.equals(thatIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        lock.lock();
+        try {
+            Object[] array = new Object[size];
+            copyTo(array);
+            return array;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) throw new NullPointerException("The array can't be null.");
+        lock.lock();
+        try {
+            if (holder.length < size) {
+                holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+            }
+            copyTo(holder);
+            if (holder.length > size) {
+                holder[size] = null;
+            }
+            return holder;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns true if the queue holds as many elements as its capacity.
+     *
+     * @return true if the queue is full.
+     */
+    @Override
+    public boolean isFull() {
+        lock.lock();
+        try {
+            return size == elements.length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the most elements the queue can hold.
+     *
+     * @return The capacity of the queue.
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Stores an element at the back. The lock must be held and the queue not full.
+     */
+    private void insert(E toAdd) {
+        elements[index(size)] = toAdd;
+        size++;
+        notEmpty.signal();
+    }
+
+    /**
+     * Removes the front element. The lock must be held and the queue not empty.
+     */
+    private E extract() {
+        E removed = elements[head];
+        elements[head] = null;
+        head = head + 1 == elements.length ? 0 : head + 1;
+        size--;
+        notFull.signal();
+        return removed;
+    }
+
+    /**
+     * Converts a position counted from the head into an array index.
+     */
+    private int index(int position) {
+        int index = head + position;
+        return index >= elements.length ? index - elements.length : index;
+    }
+
+    private void copyTo(Object[] target) {
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, target, 0, firstPart);
+        System.arraycopy(elements, 0, target, firstPart, size - firstPart);
+    }
+}
@@ -0,0 +1,188 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.StackADT;
+
+/**
+ * This class represents a stack that holds at most a fixed number of elements.
+ * The array grows by doubling as elements are pushed but never past the
+ * capacity, so the memory a stack can use is known when it is created.
+ * {@link #stackOverflow()} reports when the capacity is reached, and pushing
+ * onto a full stack fails straight away with an IllegalStateException.
+ *
+ * Iteration and toArray go from the top of the stack to the bottom.
+ *
+ * @param <E> The type of elements held in this stack.
+ */
+@SuppressWarnings({ "serial", "unchecked" })
+public class MyBoundedStack<E> implements StackADT<E> {
+    private static final int INITIAL_CAPACITY = 10;
+
+    private E[] elements;
+    private int size;
+    private final int capacity;
+
+    /**
+     * Constructs an empty stack that holds at most capacity elements.
+     *
+     * @param capacity The most elements the stack can hold.
+     * @throws IllegalArgumentException If the capacity is less than 1.
+     */
+    public MyBoundedStack(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be at least 1.");
+        this.capacity = capacity;
+        elements = (E[]) new Object[Math.min(INITIAL_CAPACITY, capacity)];
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     *
+     * @param toAdd The element to push.
+     * @throws NullPointerException If the element is null.
+     * @throws IllegalStateException If the stack is at its capacity.
+     */
+    @Override
+    public void push(E toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("Cannot add null element.");
+        if (size == elements.length) {
+            if (size == capacity) throw new IllegalStateException("Stack is full.");
+            elements = Arrays.copyOf(elements, (int) Math.min(size * 2L, capacity));
+        }
+        elements[size++] = toAdd;
+    }
+
+    @Override
+    public E pop() throws EmptyStackException {
+        if (isEmpty()) throw new EmptyStackException();
+        E removed = elements[--size];
+        elements[size] = null;
+        return removed;
+    }
+
+    @Override
+    public E peek() throws EmptyStackException {
+        if (isEmpty()) throw new EmptyStackException();
+        return elements[size - 1];
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array);
+        return array;
+    }
+
+    @Override
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) throw new NullPointerException("The array can't be null.");
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+        }
+        copyTo(holder);
+        if (holder.length > size) {
+            holder[size] = null;
+        }
+        return holder;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException("Can't search for a null element.");
+        return search(toFind) != -1;
+    }
+
+    /**
+     * Returns the 1-based position of an element counted from the top of the
+     * stack, or -1 if it is not on the stack.
+     *
+     * @param toFind The element to look for.
+     * @return The position from the top, or -1 if not found.
+     */
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) return -1;
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i].equals(toFind)) {
+                return size - i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = size - 1;
+
+            @Override
+            public boolean hasNext() {
+                return current >= 0;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return elements[current--];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(StackADT<E> that) {
+        if (that == null || this.size() != that.size()) return false;
+        Iterator<E> thatIterator = that.iterator();
+        for (int i = size - 1; i >= 0; i--) {
+            if (!elements[i].equals(thatIterator.next())) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the stack holds as many elements as its capacity, so the
+     * next push would fail.
+     *
+     * @return true if the stack is full.
+     */
+    @Override
+    public boolean stackOverflow() {
+        return size == capacity;
+    }
+
+    /**
+     * Returns the most elements the stack can hold.
+     *
+     * @return The capacity of the stack.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Copies the elements, top first, into the start of an array.
+     */
+    private void copyTo(Object[] target) {
+        for (int i = 0; i < size; i++) {
+            target[i] = elements[size - 1 - i];
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package implementations;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * This class represents a lock-free queue for many producer threads and one
+ * consumer thread. Any number of threads may call {@link #enqueue(Object)} at
+ * the same time; every other method must only be called by the one consumer
+ * thread, or while no thread is enqueueing.
+ *
+ * The queue is a singly linked list that starts at a dummy node. A producer
+ * links a new node by atomically swapping it in as the tail and then pointing
+ * the old tail at it, so enqueueing is one atomic exchange and never waits for
+ * a lock or retries. The consumer owns the head and needs no atomic operations
+ * at all. Between a producer's swap and its link the new node is not yet
+ * reachable; a consumer that sees the queue is not empty waits for that link,
+ * which is only ever a few instructions away.
+ *
+ * Elements a producer enqueues come out in the order that producer enqueued
+ * them. Elements from different producers are interleaved in the order their
+ * swaps happened.
+ *
+ * @param <E> The type of elements held in this queue.
+ */
+@SuppressWarnings({ "serial", "unchecked" })
+public class MyConcurrentQueue<E> implements QueueADT<E> {
+    private final AtomicReference<Node<E>> tail;
+    // the dummy node before the front element, only touched by the consumer
+    private Node<E> head;
+
+    /**
+     * Constructs an empty queue.
+     */
+    public MyConcurrentQueue() {
+        head = new Node<>(null);
+        tail = new AtomicReference<>(head);
+    }
+
+    /**
+     * Adds an element to the back of the queue. Safe to call from any number of
+     * threads at once.
+     *
+     * @param toAdd The element to add.
+     * @throws NullPointerException If the element is null.
+     */
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("Cannot add null element to the queue.");
+        Node<E> node = new Node<>(toAdd);
+        Node<E> previous = tail.getAndSet(node);
+        // publishes the element: the consumer reads it after reading this link
+        previous.next = node;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     *
+     * @return The element that was at the front.
+     * @throws EmptyQueueException If the queue is empty.
+     */
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        E element = poll();
+        if (element == null) throw new EmptyQueueException("Queue is empty.");
+        return element;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, or returns null
+     * if the queue is empty. A consumer polling in a loop avoids the cost of
+     * throwing an exception whenever it catches up with the producers.
+     *
+     * @return The element that was at the front, or null if the queue is empty.
+     */
+    public E poll() {
+        Node<E> next = first();
+        if (next == null) {
+            return null;
+        }
+        E element = next.item;
+        next.item = null;
+        head = next;
+        return element;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     *
+     * @return The element at the front.
+     * @throws EmptyQueueException If the queue is empty.
+     */
+    @Override
+    public E peek() throws EmptyQueueException {
+        Node<E> next = first();
+        if (next == null) throw new EmptyQueueException("Queue is empty.");
+        return next.item;
+    }
+
+    /**
+     * Removes every element enqueued so far.
+     */
+    @Override
+    public void dequeueAll() {
+        Node<E> last = tail.get();
+        last.item = null;
+        head = last;
+    }
+
+    /**
+     * Checks if the queue is empty. An element whose producer has not finished
+     * linking it already counts.
+     *
+     * @return true if the queue is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException("Can't search for a null element.");
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) return -1;
+        int position = 1;
+        for (Node<E> node = head.next; node != null; node = node.next) {
+            if (toFind.equals(node.item)) {
+                return position;
+            }
+            position++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator from the front of the queue. Elements enqueued while
+     * iterating may or may not be seen.
+     *
+     * @return An iterator over the elements in the queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node<E> current = head.next;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                E element = current.item;
+                current = current.next;
+                return element;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == this) return true;
+        if (that == null || this.size() != that.size()) return false;
+        Iterator<E> thatIterator = that.iterator();
+        for (Node<E> node = head.next; node != null; node = node.next) {
+            if (!node.item.equals(thatIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return toArray((E[]) new Object[0]);
+    }
+
+    @Override
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) throw new NullPointerException("The array can't be null.");
+        // take one snapshot so the count and the copied elements agree
+        int size = 0;
+        Node<E> last = head;
+        while (last.next != null) {
+            last = last.next;
+            size++;
+        }
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+        }
+        int i = 0;
+        for (Node<E> node = head; node != last; ) {
+            node = node.next;
+            holder[i++] = node.item;
+        }
+        if (holder.length > size) {
+            holder[size] = null;
+        }
+        return holder;
+    }
+
+    /**
+     * The queue grows as needed, so it is never full.
+     *
+     * @return false.
+     */
+    @Override
+    public boolean isFull() {
+        return false;
+    }
+
+    /**
+     * Counts the linked elements by walking the queue, so this takes time
+     * proportional to the size.
+     *
+     * @return The number of elements in the queue.
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<E> node = head.next; node != null; node = node.next) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the node of the front element, waiting for its producer to link it
+     * if it has been swapped in but not linked yet, or null if the queue is empty.
+     */
+    private Node<E> first() {
+        Node<E> next = head.next;
+        if (next == null) {
+            if (tail.get() == head) {
+                return null;
+            }
+            while ((next = head.next) == null) {
+                Thread.yield();
+            }
+        }
+        return next;
+    }
+
+    /**
+     * One element of the queue and the link to the element behind it.
+     */
+    private static class Node<E> {
+        E item;
+        volatile Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
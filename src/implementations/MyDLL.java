@@ -16,6 +16,9 @@ public class MyDLL<E> implements ListADT<E> {
     private MyDLLNode<E> head;
     private MyDLLNode<E> tail;
     private int size;
+    // the node found by the last indexed lookup, so nearby lookups can start there
+    private MyDLLNode<E> cursor;
+    private int cursorIndex;
 
     
     /**
@@ -46,6 +49,7 @@ public class MyDLL<E> implements ListADT<E> {
         head = null;
         tail = null;
         size = 0;
+        cursor = null;
     }
 
     
@@ -81,6 +85,7 @@ public class MyDLL<E> implements ListADT<E> {
             current.prev.next = newNode;
             current.prev = newNode;
         }
+        if (cursor != null && index <= cursorIndex) cursorIndex++;
         size++;
         return true;
     }
@@ -110,18 +115,44 @@ public class MyDLL<E> implements ListADT<E> {
 
     
     /**
-     * Adds all elements from another list to this list.
+     * Adds all elements from another list to this list. The new nodes are linked
+     * into a chain of their own first and the whole chain is then attached to
+     * the tail in one step, so a null element leaves this list unchanged.
      * 
      * @param itemToAdd The list of elements to add.
      * @return true If the elements are added successfully.
-     * @throws NullPointerException If the list is null.
+     * @throws NullPointerException If the list is null or holds a null element.
      */
     @Override
     public boolean addAll(ListADT<? extends E> itemToAdd) {
         if (itemToAdd == null) throw new NullPointerException("List to add is null.");
+        MyDLLNode<E> first = null;
+        MyDLLNode<E> last = null;
+        int count = 0;
         for (Iterator<? extends E> it = itemToAdd.iterator(); it.hasNext(); ) {
-            add(it.next());
+            E element = it.next();
+            if (element == null) throw new NullPointerException("Can't add null element.");
+            MyDLLNode<E> newNode = new MyDLLNode<>(element);
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+                newNode.prev = last;
+            }
+            last = newNode;
+            count++;
+        }
+        if (first == null) {
+            return true;
+        }
+        if (tail == null) {
+            head = first;
+        } else {
+            tail.next = first;
+            first.prev = tail;
         }
+        tail = last;
+        size += count;
         return true;
     }
 
@@ -161,6 +192,7 @@ public class MyDLL<E> implements ListADT<E> {
         } else {
             tail = nodeToRemove.prev;
         }
+        removedAt(index, nodeToRemove);
         size--;
         return nodeToRemove.data;
     }
@@ -176,6 +208,7 @@ public class MyDLL<E> implements ListADT<E> {
     public E remove(E elementToRemove) {
         if (elementToRemove == null) throw new NullPointerException("Cannot remove null element.");
         MyDLLNode<E> current = head;
+        int index = 0;
         while (current != null) {
             if (current.data.equals(elementToRemove)) {
                 E data = current.data;
@@ -183,10 +216,12 @@ public class MyDLL<E> implements ListADT<E> {
                 else head = current.next;
                 if (current.next != null) current.next.prev = current.prev;
                 else tail = current.prev;
+                removedAt(index, current);
                 size--;
                 return data;
             }
             current = current.next;
+            index++;
         }
         return null;
     }
@@ -243,6 +278,27 @@ public class MyDLL<E> implements ListADT<E> {
     }
 
     
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element. The list is walked once from head to tail.
+     *
+     * @param element The element to search for.
+     * @return The index of the first occurrence of the specified element, or -1 if not found.
+     * @throws NullPointerException If the specified element is null.
+     */
+    public int indexOf(E element) {
+        if (element == null) throw new NullPointerException("Can't search for a null element.");
+        int index = 0;
+        for (MyDLLNode<E> current = head; current != null; current = current.next) {
+            if (current.data.equals(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    
     /**
      * Converts the list to an array.
      * 
@@ -312,18 +368,61 @@ public class MyDLL<E> implements ListADT<E> {
 
     
     /**
-     * Gets the node at a specific index.
+     * Gets the node at a specific index. The walk starts from whichever is nearest of
+     * the head, the tail and the node found by the previous lookup, so stepping
+     * through the list by index costs O(1) per step.
      * 
      * @param index The index of the node to get.
      * @return The node at the given index.
      */
     private MyDLLNode<E> getNode(int index) {
         MyDLLNode<E> current = head;
-        for (int i = 0; i < index; i++) {
+        int position = 0;
+        int distance = index;
+        if (size - 1 - index < distance) {
+            current = tail;
+            position = size - 1;
+            distance = size - 1 - index;
+        }
+        if (cursor != null && Math.abs(index - cursorIndex) < distance) {
+            current = cursor;
+            position = cursorIndex;
+        }
+        while (position < index) {
             current = current.next;
+            position++;
+        }
+        while (position > index) {
+            current = current.prev;
+            position--;
         }
+        cursor = current;
+        cursorIndex = index;
         return current;
     }
+
+    /**
+     * Keeps the cursor pointing at the right index after the node at the given
+     * index has been unlinked. If the cursor was on the removed node it moves to
+     * the node that took its index, or to the one before at the end of the list,
+     * so repeated removals around one spot stay O(1).
+     * 
+     * @param index The index of the removed node.
+     * @param removed The node that was unlinked, whose links are still intact.
+     */
+    private void removedAt(int index, MyDLLNode<E> removed) {
+        if (cursor == null) return;
+        if (index == cursorIndex) {
+            if (removed.next != null) {
+                cursor = removed.next;
+            } else {
+                cursor = removed.prev;
+                cursorIndex--;
+            }
+        } else if (index < cursorIndex) {
+            cursorIndex--;
+        }
+    }
     
 
     /**
@@ -0,0 +1,298 @@
+package implementations;
+
+import java.util.HashMap;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * This class represents an array-based list that also keeps a hash index from
+ * each distinct element to how many times it occurs and where it first occurs.
+ * {@link #contains(Object)} is a single hash lookup instead of a scan, and
+ * {@link #indexOf(Object)} usually is too, which suits callers that check for
+ * duplicates before every add.
+ *
+ * The elements are stored in a {@link MyArrayList}. Adding to the end keeps the
+ * index exact. Inserting, removing or replacing at a position can move the
+ * first occurrence of any element after it, so those positions are marked out
+ * of date instead of being fixed straight away; the next indexOf that needs one
+ * of them rescans the list from the earliest changed position and brings every
+ * entry up to date in that one pass. First occurrences before the earliest
+ * change are never rescanned.
+ *
+ * Elements must have hashCode and equals methods that agree.
+ *
+ * @param <E> The type of elements held in this list.
+ */
+@SuppressWarnings("serial")
+public class MyIndexedList<E> implements ListADT<E> {
+    private static final int CLEAN = Integer.MAX_VALUE;
+
+    private final MyArrayList<E> list;
+    private final HashMap<E, Position> index = new HashMap<>();
+    // first positions at or after this one may be out of date
+    private int staleFrom = CLEAN;
+    private int rescans;
+
+    /**
+     * Constructs an empty list with an initial capacity of 10.
+     */
+    public MyIndexedList() {
+        list = new MyArrayList<>();
+    }
+
+    /**
+     * Constructs an empty list with room for the given number of elements before
+     * it grows.
+     *
+     * @param initialCapacity The number of elements the list can hold before it grows.
+     * @throws IllegalArgumentException If the capacity is negative.
+     */
+    public MyIndexedList(int initialCapacity) {
+        list = new MyArrayList<>(initialCapacity);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+        index.clear();
+        staleFrom = CLEAN;
+    }
+
+    /**
+     * Adds an element at a specified index in the list.
+     *
+     * @param position The position to add the element.
+     * @param itemToAdd The element to add.
+     * @return true If the element is added successfully to the specified index.
+     * @throws NullPointerException If the specified element is null.
+     * @throws IndexOutOfBoundsException If the index is out of the range expected.
+     */
+    @Override
+    public boolean add(int position, E itemToAdd) {
+        if (position == list.size()) {
+            return add(itemToAdd);
+        }
+        list.add(position, itemToAdd);
+        record(itemToAdd, position);
+        markStale(position);
+        return true;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param itemToAdd The element to be added.
+     * @return true If the element is added successfully.
+     * @throws NullPointerException If the specified element is null.
+     */
+    @Override
+    public boolean add(E itemToAdd) {
+        int position = list.size();
+        list.add(itemToAdd);
+        record(itemToAdd, position);
+        return true;
+    }
+
+    /**
+     * Adds all elements from the other list to the end of this list.
+     *
+     * @param itemToAdd The list of elements that will be added.
+     * @return true If the elements were added successfully to the list.
+     * @throws NullPointerException If the list is null or holds a null element.
+     */
+    @Override
+    public boolean addAll(ListADT<? extends E> itemToAdd) {
+        if (itemToAdd == null) throw new NullPointerException("The element's to be added is null.");
+        int position = list.size();
+        list.addAll(itemToAdd);
+        for (int end = list.size(); position < end; position++) {
+            record(list.get(position), position);
+        }
+        return true;
+    }
+
+    @Override
+    public E get(int position) {
+        return list.get(position);
+    }
+
+    /**
+     * Removes an element at a specified index in the list.
+     *
+     * @param position The position of the element that will be removed.
+     * @return The removed element.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    @Override
+    public E remove(int position) {
+        E removed = list.remove(position);
+        forget(removed);
+        // removing the last element moves nothing else
+        if (position < list.size()) {
+            markStale(position);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the first instance of a specified element from the list.
+     *
+     * @param elementToRemove The element to remove.
+     * @return The removed element, or null if it is not in the list.
+     * @throws NullPointerException If the specified element is null.
+     */
+    @Override
+    public E remove(E elementToRemove) {
+        int position = indexOf(elementToRemove);
+        return position == -1 ? null : remove(position);
+    }
+
+    /**
+     * Replaces an element at a specified index with a new element.
+     *
+     * @param position The position of the element to be replaced.
+     * @param toChange The new element.
+     * @return The old element that was replaced.
+     * @throws NullPointerException If the new element is null.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    @Override
+    public E set(int position, E toChange) {
+        E old = list.set(position, toChange);
+        forget(old);
+        record(toChange, position);
+        markStale(position);
+        return old;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    /**
+     * Checks if the list contains a specific element with one hash lookup.
+     *
+     * @param toFind The element to search for.
+     * @return true If the element is found, false if not.
+     * @throws NullPointerException If the specified element is null.
+     */
+    @Override
+    public boolean contains(E toFind) {
+        if (toFind == null) throw new NullPointerException("Can't search for a null element inside the list.");
+        return index.containsKey(toFind);
+    }
+
+    /**
+     * Returns how many times an element occurs in the list.
+     *
+     * @param toFind The element to count.
+     * @return The number of occurrences, 0 if it is not in the list.
+     * @throws NullPointerException If the specified element is null.
+     */
+    public int count(E toFind) {
+        if (toFind == null) throw new NullPointerException("Can't search for a null element inside the list.");
+        Position entry = index.get(toFind);
+        return entry == null ? 0 : entry.count;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this
+     * list, or -1 if this list does not contain the element.
+     *
+     * @param element The element to search for.
+     * @return The index of the first occurrence of the element, or -1 if not found.
+     * @throws NullPointerException If the specified element is null.
+     */
+    public int indexOf(E element) {
+        if (element == null) throw new NullPointerException("Can't search for a null element inside the list.");
+        Position entry = index.get(element);
+        if (entry == null) {
+            return -1;
+        }
+        if (entry.first >= staleFrom) {
+            rescan();
+        }
+        return entry.first;
+    }
+
+    @Override
+    public E[] toArray(E[] toHold) {
+        return list.toArray(toHold);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();
+    }
+
+    /**
+     * Counts a new occurrence of an element at a position. A first occurrence
+     * that is already known and earlier is kept.
+     */
+    private void record(E element, int position) {
+        Position entry = index.get(element);
+        if (entry == null) {
+            entry = new Position();
+            entry.first = position;
+            index.put(element, entry);
+        } else if (position < entry.first) {
+            entry.first = position;
+        }
+        entry.count++;
+    }
+
+    /**
+     * Counts one less occurrence of an element, dropping it from the index when
+     * none are left.
+     */
+    private void forget(E element) {
+        Position entry = index.get(element);
+        if (--entry.count == 0) {
+            index.remove(element);
+        }
+    }
+
+    private void markStale(int position) {
+        if (position < staleFrom) {
+            staleFrom = position;
+        }
+    }
+
+    /**
+     * Brings every out of date first position up to date. An element whose
+     * recorded first position is at or after the stale point first occurs there
+     * or later, so the first time the scan meets it is its first occurrence.
+     */
+    private void rescan() {
+        int pass = ++rescans;
+        for (int i = staleFrom, end = list.size(); i < end; i++) {
+            Position entry = index.get(list.get(i));
+            if (entry.pass != pass && entry.first >= staleFrom) {
+                entry.first = i;
+                entry.pass = pass;
+            }
+        }
+        staleFrom = CLEAN;
+    }
+
+    /**
+     * How many times an element occurs and where it first occurs.
+     */
+    private static class Position implements java.io.Serializable {
+        int count;
+        int first;
+        int pass;
+    }
+}
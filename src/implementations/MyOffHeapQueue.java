@@ -0,0 +1,219 @@
+package implementations;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.NoSuchElementException;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.QueueADT;
+import utilities.RecordCodec;
+
+/**
+ * This class represents a bounded queue whose elements are kept outside the
+ * Java heap. Each element is written by a {@link RecordCodec} as a fixed-size
+ * record into a circular direct byte buffer, so a queue of millions of
+ * elements is one buffer rather than millions of objects for the garbage
+ * collector to trace. Elements are decoded back into objects only when they
+ * are read.
+ *
+ * The capacity is fixed when the queue is created, so {@link #isFull()} is
+ * meaningful and enqueueing onto a full queue fails. The buffer is allocated
+ * once and reused after {@link #dequeueAll()}; its memory is released when the
+ * queue is garbage collected.
+ *
+ * @param <E> The type of elements held in this queue.
+ */
+@SuppressWarnings({ "serial", "unchecked" })
+public class MyOffHeapQueue<E> implements QueueADT<E> {
+    private final RecordCodec<E> codec;
+    private final int recordSize;
+    private final int capacity;
+    private final ByteBuffer buffer;
+    private int head;
+    private int size;
+
+    /**
+     * Constructs an empty queue that holds up to capacity records.
+     *
+     * @param codec The codec that writes and reads the elements.
+     * @param capacity The most elements the queue can hold.
+     * @throws NullPointerException If the codec is null.
+     * @throws IllegalArgumentException If the capacity is less than 1 or the
+     *         buffer would be larger than 2 GB.
+     */
+    public MyOffHeapQueue(RecordCodec<E> codec, int capacity) {
+        if (codec == null) throw new NullPointerException("Codec can't be null.");
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be at least 1.");
+        this.codec = codec;
+        this.recordSize = codec.recordSize();
+        if ((long) capacity * recordSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Queue can't be larger than 2 GB.");
+        }
+        this.capacity = capacity;
+        this.buffer = ByteBuffer.allocateDirect(capacity * recordSize).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Writes an element to the back of the queue.
+     *
+     * @param toAdd The element to add.
+     * @throws NullPointerException If the element is null.
+     * @throws IllegalStateException If the queue is full.
+     */
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("Cannot add null element to the queue.");
+        if (size == capacity) throw new IllegalStateException("Queue is full.");
+        codec.write(toAdd, buffer, offset(size));
+        size++;
+    }
+
+    /**
+     * Removes the element at the front of the queue and decodes it.
+     *
+     * @return The element that was at the front.
+     * @throws EmptyQueueException If the queue is empty.
+     */
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        if (isEmpty()) throw new EmptyQueueException("Queue is empty.");
+        E removed = codec.read(buffer, offset(0));
+        head = head + 1 == capacity ? 0 : head + 1;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Decodes the element at the front of the queue without removing it.
+     *
+     * @return The element at the front.
+     * @throws EmptyQueueException If the queue is empty.
+     */
+    @Override
+    public E peek() throws EmptyQueueException {
+        if (isEmpty()) throw new EmptyQueueException("Queue is empty.");
+        return codec.read(buffer, offset(0));
+    }
+
+    /**
+     * Removes every element, keeping the buffer.
+     */
+    @Override
+    public void dequeueAll() {
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException("Can't search for a null element.");
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) return -1;
+        for (int i = 0; i < size; i++) {
+            if (toFind.equals(codec.read(buffer, offset(i)))) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return codec.read(buffer, offset(current++));
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == this) return true;
+        if (that == null || this.size() != that.size()) return false;
+        Iterator<E> thatIterator = that.iterator();
+        for (int i = 0; i < size; i++) {
+            if (!codec.read(buffer, offset(i)).equals(thatIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = codec.read(buffer, offset(i));
+        }
+        return array;
+    }
+
+    @Override
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) throw new NullPointerException("The array can't be null.");
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+        }
+        for (int i = 0; i < size; i++) {
+            holder[i] = codec.read(buffer, offset(i));
+        }
+        if (holder.length > size) {
+            holder[size] = null;
+        }
+        return holder;
+    }
+
+    /**
+     * Returns true if the queue holds as many elements as its capacity.
+     *
+     * @return true if the queue is full.
+     */
+    @Override
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the most elements the queue can hold.
+     *
+     * @return The capacity of the queue.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Converts a position counted from the head into the byte offset of its record.
+     */
+    private int offset(int position) {
+        int slot = head + position;
+        if (slot >= capacity) {
+            slot -= capacity;
+        }
+        return slot * recordSize;
+    }
+}
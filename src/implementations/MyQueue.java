@@ -47,12 +47,10 @@ public class MyQueue<E> implements QueueADT<E> {
 
     @Override
     public int search(E toFind) {
-        for (int i = 0; i < list.size(); i++) {
-            if (list.get(i).equals(toFind)) {
-                return i + 1;
-            }
-        }
-        return -1;
+        if (toFind == null) return -1;
+        // one walk of the list; indexed get() would restart from the head each time
+        int index = list.indexOf(toFind);
+        return index == -1 ? -1 : index + 1;
     }
 
     @Override
@@ -62,6 +60,7 @@ public class MyQueue<E> implements QueueADT<E> {
 
     @Override
     public boolean equals(QueueADT<E> that) {
+        if (that == this) return true;
         if (that == null || this.size() != that.size()) return false;
         Iterator<E> thisIterator = this.iterator();
         Iterator<E> thatIterator = that.iterator();
@@ -0,0 +1,452 @@
+package implementations;
+
+import utilities.ListADT;
+import utilities.Iterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents an unrolled linked list: a doubly linked list whose nodes
+ * each hold a small array of elements instead of a single one. Compared with
+ * {@link MyDLL} it needs one node per block of elements, so it allocates far less
+ * and walks memory in order, and compared with {@link MyArrayList} an insert or
+ * removal in the middle only shifts the elements of one block.
+ *
+ * Nodes split in half when an insert finds them full. When removals leave a
+ * node less than a quarter full it merges with the next node if the two fit in
+ * one, and otherwise takes elements from the next node until the two are about
+ * even, so every node but the last stays at least a quarter full. Indexed
+ * access skips whole nodes, starting from whichever end of the list is nearer.
+ *
+ * @param <E> The type of elements held in this list.
+ */
+@SuppressWarnings({ "serial", "unchecked" })
+public class MyUnrolledList<E> implements ListADT<E> {
+    private static final int NODE_CAPACITY = 64;
+    private static final int MIN_COUNT = NODE_CAPACITY / 4;
+
+    private Node<E> head;
+    private Node<E> tail;
+    private int size;
+
+    /**
+     * Creates an empty unrolled list.
+     */
+    public MyUnrolledList() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return The number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Adds an element at a specified index, shifting later elements of the same
+     * node along by one. A full node is split in half first.
+     *
+     * @param index The position to add the element at.
+     * @param itemToAdd The element to add.
+     * @return true If the element is added successfully.
+     * @throws NullPointerException If the element is null.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    @Override
+    public boolean add(int index, E itemToAdd) {
+        if (itemToAdd == null) throw new NullPointerException("Can't add null element.");
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index out of bounds.");
+        if (index == size) {
+            return add(itemToAdd);
+        }
+        Position<E> position = locate(index);
+        Node<E> node = position.node;
+        int offset = position.offset;
+        if (node.count == NODE_CAPACITY) {
+            Node<E> upper = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = upper;
+            }
+        }
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = itemToAdd;
+        node.count++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param itemToAdd The element to add.
+     * @return true If the element is added successfully.
+     * @throws NullPointerException If the element is null.
+     */
+    @Override
+    public boolean add(E itemToAdd) {
+        if (itemToAdd == null) throw new NullPointerException("Can't add null element.");
+        if (tail == null || tail.count == NODE_CAPACITY) {
+            linkAfter(tail, new Node<E>());
+        }
+        tail.items[tail.count++] = itemToAdd;
+        size++;
+        return true;
+    }
+
+    /**
+     * Adds all elements from another list to the end of this list.
+     *
+     * @param itemToAdd The list of elements to add.
+     * @return true If the elements are added successfully.
+     * @throws NullPointerException If the list is null.
+     */
+    @Override
+    public boolean addAll(ListADT<? extends E> itemToAdd) {
+        if (itemToAdd == null) throw new NullPointerException("List to add is null.");
+        for (Iterator<? extends E> it = itemToAdd.iterator(); it.hasNext(); ) {
+            add(it.next());
+        }
+        return true;
+    }
+
+    /**
+     * Gets the element at a specified index.
+     *
+     * @param index The position of the element to retrieve.
+     * @return The element at the specified index.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        Position<E> position = locate(index);
+        return (E) position.node.items[position.offset];
+    }
+
+    /**
+     * Removes the element at a specified index.
+     *
+     * @param index The position of the element to remove.
+     * @return The removed element.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        Position<E> position = locate(index);
+        return removeAt(position.node, position.offset);
+    }
+
+    /**
+     * Removes the first occurrence of a specified element from the list.
+     *
+     * @param elementToRemove The element to remove.
+     * @return The removed element, or null if not found.
+     * @throws NullPointerException If the element is null.
+     */
+    @Override
+    public E remove(E elementToRemove) {
+        if (elementToRemove == null) throw new NullPointerException("Cannot remove null element.");
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (node.items[i].equals(elementToRemove)) {
+                    return removeAt(node, i);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the element at a specified index.
+     *
+     * @param index The position of the element to replace.
+     * @param toChange The new element.
+     * @return The element that was replaced.
+     * @throws NullPointerException If the new element is null.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    @Override
+    public E set(int index, E toChange) {
+        checkIndex(index);
+        if (toChange == null) throw new NullPointerException("Can't set null element.");
+        Position<E> position = locate(index);
+        E oldData = (E) position.node.items[position.offset];
+        position.node.items[position.offset] = toChange;
+        return oldData;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true If the list is empty, false if not.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the list contains a specified element.
+     *
+     * @param toFind The element to search for.
+     * @return true If the element is found, false if not.
+     * @throws NullPointerException If the element is null.
+     */
+    @Override
+    public boolean contains(E toFind) {
+        return indexOf(toFind) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * @param element The element to search for.
+     * @return The index of the first occurrence of the element, or -1 if not found.
+     * @throws NullPointerException If the element is null.
+     */
+    public int indexOf(E element) {
+        if (element == null) throw new NullPointerException("Can't search for a null element.");
+        int start = 0;
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (node.items[i].equals(element)) {
+                    return start + i;
+                }
+            }
+            start += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Converts the list to an array.
+     *
+     * @param toHold The array to hold the elements, if large enough.
+     * @return An array with all elements in the list.
+     * @throws NullPointerException If the array is null.
+     */
+    @Override
+    public E[] toArray(E[] toHold) {
+        if (toHold == null) throw new NullPointerException("Array can't be null.");
+        if (toHold.length < size) {
+            toHold = (E[]) java.util.Arrays.copyOf(toHold, size, toHold.getClass());
+        }
+        copyTo(toHold);
+        if (toHold.length > size) {
+            toHold[size] = null;
+        }
+        return toHold;
+    }
+
+    /**
+     * Converts the list to an array of Objects.
+     *
+     * @return An array with all elements in the list.
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array);
+        return array;
+    }
+
+    /**
+     * Returns an iterator over the elements in the list.
+     *
+     * @return An iterator over the elements in the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node<E> node = head;
+            private int offset = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (node != null && offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+                return node != null;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return (E) node.items[offset++];
+            }
+        };
+    }
+
+    /**
+     * Returns the number of nodes the elements are spread over. Every node but
+     * the last holds at least a quarter of its capacity, so this is never more
+     * than size() / 16 + 1.
+     *
+     * @return The number of nodes in the list.
+     */
+    public int nodeCount() {
+        int count = 0;
+        for (Node<E> node = head; node != null; node = node.next) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Finds the node holding an index, skipping whole nodes from the nearer end of
+     * the list. Both walks end at the one allocation of the result, so once this
+     * is inlined the JIT can keep the Position in registers instead of the heap.
+     *
+     * @param index A valid index of the list.
+     * @return The node holding the index and the index's slot in it.
+     */
+    private Position<E> locate(int index) {
+        Node<E> node;
+        int start;
+        if (index < size / 2) {
+            node = head;
+            start = 0;
+            while (index >= start + node.count) {
+                start += node.count;
+                node = node.next;
+            }
+        } else {
+            node = tail;
+            start = size - node.count;
+            while (index < start) {
+                node = node.prev;
+                start -= node.count;
+            }
+        }
+        return new Position<>(node, index - start);
+    }
+
+    /**
+     * Removes the element at a slot of a node. A node left less than a quarter
+     * full merges with the next node, or evens out with it when both don't fit in
+     * one; the last node may be emptier and is only unlinked once empty.
+     */
+    private E removeAt(Node<E> node, int offset) {
+        E removed = (E) node.items[offset];
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.items[--node.count] = null;
+        size--;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < MIN_COUNT && node.next != null) {
+            Node<E> next = node.next;
+            if (node.count + next.count <= NODE_CAPACITY) {
+                System.arraycopy(next.items, 0, node.items, node.count, next.count);
+                node.count += next.count;
+                unlink(next);
+            } else {
+                // the two hold more than one node can, so each ends up at least half full
+                int moved = (next.count - node.count) / 2;
+                System.arraycopy(next.items, 0, node.items, node.count, moved);
+                System.arraycopy(next.items, moved, next.items, 0, next.count - moved);
+                java.util.Arrays.fill(next.items, next.count - moved, next.count, null);
+                node.count += moved;
+                next.count -= moved;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked after it.
+     *
+     * @return The new node.
+     */
+    private Node<E> split(Node<E> node) {
+        Node<E> upper = new Node<>();
+        int half = node.count / 2;
+        upper.count = node.count - half;
+        System.arraycopy(node.items, half, upper.items, 0, upper.count);
+        java.util.Arrays.fill(node.items, half, node.count, null);
+        node.count = half;
+        linkAfter(node, upper);
+        return upper;
+    }
+
+    private void linkAfter(Node<E> node, Node<E> newNode) {
+        newNode.prev = node;
+        if (node == null) {
+            newNode.next = head;
+            head = newNode;
+        } else {
+            newNode.next = node.next;
+            node.next = newNode;
+        }
+        if (newNode.next != null) newNode.next.prev = newNode;
+        else tail = newNode;
+    }
+
+    private void unlink(Node<E> node) {
+        if (node.prev != null) node.prev.next = node.next;
+        else head = node.next;
+        if (node.next != null) node.next.prev = node.prev;
+        else tail = node.prev;
+    }
+
+    private void copyTo(Object[] target) {
+        int start = 0;
+        for (Node<E> node = head; node != null; node = node.next) {
+            System.arraycopy(node.items, 0, target, start, node.count);
+            start += node.count;
+        }
+    }
+
+    /**
+     * Checks if an index is within the bounds of the list.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index out of bounds.");
+    }
+
+    /**
+     * One block of the list: up to NODE_CAPACITY elements in order.
+     */
+    private static class Node<E> {
+        final Object[] items = new Object[NODE_CAPACITY];
+        int count;
+        Node<E> next;
+        Node<E> prev;
+    }
+
+    /**
+     * Where locate() found an index: its node and its slot in that node. Each
+     * one is used and dropped by the method that asked for it.
+     */
+    private static final class Position<E> {
+        final Node<E> node;
+        final int offset;
+
+        Position(Node<E> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+}
@@ -1,19 +1,184 @@
 package implementations;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Scanner;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 import exceptions.EmptyQueueException;
 
 public class Parser
 {
+	private static final long MIN_CHUNK_SIZE = 1L << 20;
+	private static final int CHUNKS_PER_THREAD = 4;
+	private static final int SCAN_BLOCK_SIZE = 1 << 16;
+
+	private boolean memoryMapped;
+	private int parallelism = 1;
+	private int maxErrors = Integer.MAX_VALUE;
+	private int maxDepth = Integer.MAX_VALUE;
+	private ValidationMetrics metrics;
+	private boolean reusable;
+
+	// kept from one file to the next while reusable
+	private TagMatcher keptMatcher;
+	private ReusableFileReader keptReader;
+	private XMLTokenizer keptTokenizer;
+	private MappedXMLTokenizer keptMappedTokenizer;
 
 	public Parser()
 	{
 		super();
 	}
 
+	/**
+	 * Creates a parser with the same settings as another: how files are read,
+	 * the parallelism, the limits and the metrics. Whether it is reusable is not
+	 * copied.
+	 * 
+	 * @param settings the parser to copy the settings of
+	 */
+	public Parser(Parser settings)
+	{
+		this.memoryMapped = settings.memoryMapped;
+		this.parallelism = settings.parallelism;
+		this.maxErrors = settings.maxErrors;
+		this.maxDepth = settings.maxDepth;
+		this.metrics = settings.metrics;
+	}
+
+	/**
+	 * Chooses how files are read. When memory mapped, the file is mapped with
+	 * FileChannel.map and its raw bytes are tokenized without charset decoding,
+	 * which suits very large files.
+	 * 
+	 * @param memoryMapped true to memory map files, false to read them through a
+	 *                     Reader
+	 */
+	public void setMemoryMapped(boolean memoryMapped)
+	{
+		this.memoryMapped = memoryMapped;
+	}
+
+	/**
+	 * Sets how many threads validate a single file. With more than one thread,
+	 * large files are memory mapped and split into chunks at lines that start
+	 * with a tag, the chunks are validated on a fork/join pool, and the partial
+	 * results are merged into the same errors, in the same order, that a single
+	 * thread reports. Comments and CDATA sections containing a line that starts
+	 * with a tag must not span a chunk boundary.
+	 * 
+	 * @param parallelism the number of threads to use, 1 to validate sequentially
+	 */
+	public void setParallelism(int parallelism)
+	{
+		if (parallelism < 1)
+		{
+			throw new IllegalArgumentException("Parallelism must be at least 1.");
+		}
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Sets the most errors to report for one file. Once that many are found,
+	 * reading stops, the file is closed and the errors are marked as truncated.
+	 * If the limit is only reached while reporting the tags left unclosed at the
+	 * end of the file, the errors are not truncated; the unreported tags are
+	 * counted by {@link ErrorBuffer#getOmittedUnclosedTags()}.
+	 * A limit of 1 stops at the first error, which is enough to tell whether a
+	 * file is valid.
+	 * 
+	 * @param maxErrors the most errors to report, at least 1
+	 */
+	public void setMaxErrors(int maxErrors)
+	{
+		if (maxErrors < 1)
+		{
+			throw new IllegalArgumentException("Error limit must be at least 1.");
+		}
+		this.maxErrors = maxErrors;
+		this.keptMatcher = null;
+	}
+
+	/**
+	 * Sets the deepest that tags may nest in one file. A start tag that would
+	 * nest deeper is reported as an error and reading stops, so the stack of
+	 * open tags, and with it the memory a hostile file can make the parser use,
+	 * never grows past this many tags.
+	 * 
+	 * @param maxDepth the most tags that may be open at once, at least 1
+	 */
+	public void setMaxDepth(int maxDepth)
+	{
+		if (maxDepth < 1)
+		{
+			throw new IllegalArgumentException("Depth limit must be at least 1.");
+		}
+		this.maxDepth = maxDepth;
+		this.keptMatcher = null;
+	}
+
+	/**
+	 * Sets where to count what validation does. Every file this parser validates
+	 * from then on adds its counts and timings to the metrics, which may be
+	 * shared with other parsers and threads. Without metrics nothing is counted
+	 * or timed.
+	 * 
+	 * @param metrics the metrics to add to, or null to stop counting
+	 */
+	public void setMetrics(ValidationMetrics metrics)
+	{
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Returns the metrics this parser adds to.
+	 * 
+	 * @return the metrics, or null if nothing is counted
+	 */
+	public ValidationMetrics getMetrics()
+	{
+		return metrics;
+	}
+
+	/**
+	 * Chooses whether to keep the matcher, tokenizer and read buffers of one file
+	 * for the next. A reusable parser resets them for each file instead of
+	 * allocating new ones, which saves most of the setup cost of small files.
+	 * The errors it returns belong to it and are only valid until it validates
+	 * the next file, and it must not be used by two threads at once; a
+	 * {@link ParserPool} hands reusable parsers out to threads. The storage kept
+	 * is as large as the largest file has needed.
+	 * 
+	 * @param reusable true to keep state between files, false to start each file
+	 *                 afresh
+	 */
+	public void setReusable(boolean reusable)
+	{
+		this.reusable = reusable;
+		if (!reusable)
+		{
+			keptMatcher = null;
+			keptReader = null;
+			keptTokenizer = null;
+			keptMappedTokenizer = null;
+		}
+	}
+
+	/**
+	 * Returns whether this parser keeps its state from one file to the next.
+	 * 
+	 * @return true if the parser is reusable
+	 */
+	public boolean isReusable()
+	{
+		return reusable;
+	}
+
 	/**
 	 * This is class that can be used to parse a XML file for errors. It works by
 	 * going through and check opening tags with their associated closing tags to
@@ -23,95 +188,365 @@ public class Parser
 	 * @return errorQ A queue of each error and their associated description
 	 * @throws EmptyQueueException   throws an error if trying to access an empty
 	 *                               queue
-	 * @throws FileNotFoundException throws an error if the file cannot be found
+	 * @throws IOException           throws an error if the file cannot be read
 	 */
-	public MyQueue<String> ParseXML(String fileName) throws EmptyQueueException, FileNotFoundException
+	public MyQueue<String> ParseXML(String fileName) throws EmptyQueueException, IOException
 	{
-		// attributes
-		MyStack<String> myParser = new MyStack<>();
 		MyQueue<String> errorQ = new MyQueue<>();
-		int counter = 0;
+		validate(fileName).formatTo(errorQ);
+		return errorQ;
+	}
+
+	/**
+	 * Parses the tokens produced by a tokenizer for errors. Tags are matched one
+	 * token at a time, so a line holding several tags is checked tag by tag. The
+	 * tokenizer is closed once the input has been read.
+	 * 
+	 * @param tokenizer the tokenizer to read tags from
+	 * @return errorQ A queue of each error and their associated description
+	 * @throws EmptyQueueException throws an error if trying to access an empty
+	 *                             queue
+	 * @throws IOException         throws an error if the input cannot be read
+	 */
+	public MyQueue<String> ParseXML(XMLTokenizer tokenizer) throws EmptyQueueException, IOException
+	{
+		MyQueue<String> errorQ = new MyQueue<>();
+		validate(tokenizer).formatTo(errorQ);
+		return errorQ;
+	}
+
+	/**
+	 * Validates a file and returns its errors as records, without building any
+	 * message text. Messages are built by the caller only for the errors it
+	 * actually shows.
+	 * 
+	 * @param fileName the file to validate
+	 * @return the errors found, in the order found
+	 * @throws IOException throws an error if the file cannot be read
+	 */
+	public ErrorBuffer validate(String fileName) throws IOException
+	{
+		long start = metrics == null ? 0 : System.nanoTime();
+		if (parallelism > 1)
+		{
+			// chunks are memory mapped, so their length is in bytes
+			TagMatcher matcher = validateParallel(fileName);
+			return finish(matcher, matcher.getLength(), start);
+		}
+		XMLTokenizer tokenizer = memoryMapped ? openMapped(fileName) : openReader(fileName);
+		return finish(check(tokenizer), tokenizer.getBytesRead(), start);
+	}
+
+	/**
+	 * Validates the tokens produced by a tokenizer and returns the errors as
+	 * records. The tokenizer is closed once the input has been read.
+	 * 
+	 * @param tokenizer the tokenizer to read tags from
+	 * @return the errors found, in the order found
+	 * @throws IOException throws an error if the input cannot be read
+	 */
+	public ErrorBuffer validate(XMLTokenizer tokenizer) throws IOException
+	{
+		long start = metrics == null ? 0 : System.nanoTime();
+		return finish(check(tokenizer), tokenizer.getBytesRead(), start);
+	}
+
+	/**
+	 * Matches every token of the input with a new matcher, which is returned
+	 * unfinished.
+	 */
+	private TagMatcher check(XMLTokenizer tokenizer) throws IOException
+	{
+		TagMatcher matcher = documentMatcher();
+		match(tokenizer, matcher, metrics);
+		return matcher;
+	}
+
+	/**
+	 * Returns an empty matcher for a whole document: the kept one, reset, if
+	 * this parser is reusable, otherwise a new one.
+	 */
+	private TagMatcher documentMatcher()
+	{
+		if (!reusable)
+		{
+			return createMatcher(false);
+		}
+		if (keptMatcher == null)
+		{
+			keptMatcher = createMatcher(false);
+		} else
+		{
+			keptMatcher.reset();
+		}
+		return keptMatcher;
+	}
+
+	/**
+	 * Opens a file to be decoded through a Reader, reusing the tokenizer and its
+	 * buffers if this parser is reusable.
+	 */
+	private XMLTokenizer openReader(String fileName) throws IOException
+	{
+		if (!reusable)
+		{
+			ReusableFileReader reader = new ReusableFileReader();
+			reader.open(fileName);
+			return new XMLTokenizer(reader);
+		}
+		if (keptTokenizer == null)
+		{
+			keptReader = new ReusableFileReader();
+			keptTokenizer = new XMLTokenizer(keptReader);
+		}
+		keptReader.open(fileName);
+		keptTokenizer.reset();
+		return keptTokenizer;
+	}
+
+	/**
+	 * Opens a file to be memory mapped, reusing the tokenizer and its buffers if
+	 * this parser is reusable.
+	 */
+	private XMLTokenizer openMapped(String fileName) throws IOException
+	{
+		if (!reusable)
+		{
+			return new MappedXMLTokenizer(fileName);
+		}
+		if (keptMappedTokenizer == null)
+		{
+			keptMappedTokenizer = new MappedXMLTokenizer(fileName);
+		} else
+		{
+			keptMappedTokenizer.reset(fileName);
+		}
+		return keptMappedTokenizer;
+	}
 
-		// call reader
-		File inputFile = new File(fileName);
-		Scanner myReader = new Scanner(inputFile);
+	/**
+	 * Finishes a matcher that has seen a whole file and adds the file to the
+	 * metrics, if there are any.
+	 */
+	private ErrorBuffer finish(TagMatcher matcher, long bytes, long start)
+	{
+		ErrorBuffer found = matcher.finish();
+		if (metrics != null)
+		{
+			metrics.addFile(matcher, found, bytes, System.nanoTime() - start);
+		}
+		return found;
+	}
 
-		// start reading file
-		while (myReader.hasNextLine())
+	/**
+	 * Creates a matcher with this parser's settings.
+	 * 
+	 * @param deferring true to validate a chunk of a larger file
+	 * @return the new matcher
+	 */
+	TagMatcher createMatcher(boolean deferring)
+	{
+		TagMatcher matcher = new TagMatcher(deferring);
+		matcher.setErrorLimit(maxErrors);
+		if (maxDepth != Integer.MAX_VALUE)
 		{
-			// update to keep track of line
-			counter++;
-			String data = myReader.nextLine().trim();
+			matcher.setMaxDepth(maxDepth);
+		}
+		// chunks log their depths so the merged result knows the deepest nesting
+		matcher.setTrackingDepth(metrics != null);
+		return matcher;
+	}
 
-			// Detect malformed tags
-			if (data.contains(">>") || data.contains("<>") || !data.contains(">"))
+	/**
+	 * Feeds every token of the input to a matcher, then closes the tokenizer.
+	 * Reading stops early if the matcher reaches its error or depth limit.
+	 * 
+	 * @param tokenizer the tokenizer to read tags from
+	 * @param matcher   the matcher to check the tags with
+	 * @param metrics   where to add the tokens read and the time taken, or null
+	 * @throws IOException throws an error if the input cannot be read
+	 */
+	static void match(XMLTokenizer tokenizer, TagMatcher matcher, ValidationMetrics metrics) throws IOException
+	{
+		TagSymbolTable symbols = matcher.getSymbols();
+		long[] counts = null;
+		long start = 0;
+		if (metrics != null)
+		{
+			counts = new long[XMLTokenizer.INVALID + 1];
+			tokenizer.setTimed(true);
+			start = System.nanoTime();
+		}
+		try
+		{
+			int token;
+			while (!matcher.isStopped() && (token = tokenizer.next()) != XMLTokenizer.END_OF_INPUT)
 			{
-				errorQ.enqueue("Invalid tag at line " + counter + ": " + data);
-				continue;
+				if (counts != null)
+				{
+					counts[token]++;
+				}
+				switch (token)
+				{
+				// Detect malformed tags
+				case XMLTokenizer.INVALID:
+					matcher.invalidTag(tokenizer.getName(), tokenizer.getLine(), tokenizer.getColumn(),
+							tokenizer.getOffset());
+					break;
+
+				// Handle start tags
+				case XMLTokenizer.START_TAG:
+					matcher.startTag(tokenizer.internName(symbols), tokenizer.getLine(), tokenizer.getColumn(),
+							tokenizer.getOffset());
+					break;
+
+				// Handle end tags
+				// a name never seen before matches no open tag, so it is not interned
+				case XMLTokenizer.END_TAG:
+					int tagId = tokenizer.findName(symbols);
+					if (tagId >= 0)
+					{
+						matcher.endTag(tagId, tokenizer.getLine(), tokenizer.getColumn(), tokenizer.getOffset());
+					} else
+					{
+						matcher.endTag(tokenizer.getName(), tokenizer.getLine(), tokenizer.getColumn(),
+								tokenizer.getOffset());
+					}
+					break;
+
+				// Headers, self-closing tags, comments and text need no matching
+				default:
+					break;
+				}
 			}
+			// a line is only partial if input follows its start, or reading stopped in it
+			matcher.setExtent(tokenizer.getLine() - 1, tokenizer.getOffset(),
+					tokenizer.getColumn() > 1 || matcher.isStopped());
+			matcher.setEndsInsideMarkup(tokenizer.isUnterminated());
+			if (counts != null)
+			{
+				metrics.addTokens(counts, tokenizer.getReadNanos(), System.nanoTime() - start);
+			}
+		} finally
+		{
+			tokenizer.close();
+		}
+	}
 
-			// Handle header tag
-			if (data.startsWith("<?") && data.endsWith("?>"))
+	/**
+	 * Validates one file on a fork/join pool, one chunk per task. If a chunk
+	 * boundary turns out to fall inside a comment, CDATA section or processing
+	 * instruction, the chunk results are thrown away and the file is validated
+	 * in one pass instead. The chunks count their tokens separately so that
+	 * thrown away work is not counted in the metrics.
+	 */
+	private TagMatcher validateParallel(String fileName) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ))
+		{
+			long[] bounds = splitChunks(channel);
+			if (bounds.length == 2)
 			{
-				continue; // Valid header
+				return check(new MappedXMLTokenizer(channel, 0, bounds[1]));
 			}
 
-			// Handle self-closing tags
-			if (data.startsWith("<") && data.endsWith("/>"))
+			ValidationMetrics chunkMetrics = metrics == null ? null : new ValidationMetrics();
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			TagMatcher chunks;
+			try
 			{
-				continue; // Valid self-closing tag
+				chunks = pool.invoke(
+						new ChunkValidationTask(this, chunkMetrics, channel, bounds, 0, bounds.length - 1));
+			} catch (UncheckedIOException e)
+			{
+				throw e.getCause();
+			} finally
+			{
+				pool.shutdown();
 			}
 
-			// Handle start tags
-			else if (data.startsWith("<") && !data.startsWith("</") && data.endsWith(">"))
+			if (chunks.isMisaligned())
+			{
+				return check(new MappedXMLTokenizer(channel, 0, bounds[bounds.length - 1]));
+			}
+			if (metrics != null)
 			{
-				int spaceIndex = data.indexOf(" ");
-				int endIndex = data.indexOf(">");
-				String tagName = data.substring(1, spaceIndex == -1 ? endIndex : spaceIndex).trim();
-				myParser.push(tagName); // Push start tag onto stack
+				metrics.addTokens(chunkMetrics);
 			}
 
-			// Handle end tags
-			else if (data.startsWith("</") && data.endsWith(">"))
+			// decide the deferred tags now that every chunk is known
+			TagMatcher matcher = documentMatcher();
+			matcher.append(chunks);
+			return matcher;
+		}
+	}
+
+	/**
+	 * Picks chunk boundaries roughly evenly through the file, each moved forward
+	 * to the start of a line that begins with a start or end tag.
+	 */
+	private long[] splitChunks(FileChannel channel) throws IOException
+	{
+		long size = channel.size();
+		int chunks = (int) Math.max(1, Math.min(parallelism * CHUNKS_PER_THREAD, size / MIN_CHUNK_SIZE));
+		long[] bounds = new long[chunks + 1];
+		int count = 1;
+		for (int i = 1; i < chunks; i++)
+		{
+			long bound = findBoundary(channel, Math.max(size / chunks * i, bounds[count - 1] + 1), size);
+			if (bound < size && bound > bounds[count - 1])
 			{
-				String tagName = data.substring(2, data.indexOf(">")).trim();
+				bounds[count++] = bound;
+			}
+		}
+		bounds[count++] = size;
+		return Arrays.copyOf(bounds, count);
+	}
 
-				// Check if matches with the top of the stack
-				if (!myParser.isEmpty() && myParser.contains(tagName))
+	/**
+	 * Finds the first position at or after from that starts a line whose first
+	 * non-blank characters are '&lt;' followed by a tag name or '/'.
+	 */
+	private static long findBoundary(FileChannel channel, long from, long size) throws IOException
+	{
+		ByteBuffer block = ByteBuffer.allocate(SCAN_BLOCK_SIZE);
+		long position = from - 1;
+		long candidate = -1;
+		boolean sawBracket = false;
+		while (position < size)
+		{
+			block.clear();
+			int count = channel.read(block, position);
+			if (count <= 0)
+			{
+				break;
+			}
+			for (int i = 0; i < count; i++)
+			{
+				byte b = block.get(i);
+				if (b == '\n')
 				{
-					myParser.pop(); // Valid match
-				} else if (!myParser.isEmpty() && !tagName.equals(myParser.peek()))
+					candidate = position + i + 1;
+					sawBracket = false;
+				} else if (sawBracket)
 				{
-					errorQ.enqueue("Error at line " + counter + ": Mismatched end tag: </" + tagName + ">");
-				} else
+					if (b != '!' && b != '?')
+					{
+						return candidate;
+					}
+					candidate = -1;
+					sawBracket = false;
+				} else if (candidate >= 0 && b == '<')
 				{
-					errorQ.enqueue("Error at line " + counter + ": Unmatched end tag: </" + tagName + ">");
-				}
-			}
-
-			// Handle improperly nested tags
-			else if (data.contains("<") && data.contains("</"))
-			{
-				String openTag = data.substring(data.indexOf("<") + 1, data.indexOf(">")).trim();
-				String closeTag = data.substring(data.lastIndexOf("</") + 2, data.lastIndexOf(">")).trim();
-
-				if (!openTag.equals(closeTag))
+					sawBracket = true;
+				} else if (b != ' ' && b != '\t' && b != '\r')
 				{
-					errorQ.enqueue("Error at line " + counter + ": Improperly nested tags: <" + openTag + "> and </"
-							+ closeTag + ">");
+					candidate = -1;
 				}
 			}
+			position += count;
 		}
-
-		myReader.close();
-
-		// Report unclosed start tags
-		while (!myParser.isEmpty())
-		{
-			errorQ.enqueue("Error: Unclosed start tag: <" + myParser.pop() + ">");
-		}
-
-		return errorQ;
+		return size;
 	}
 
 }
\ No newline at end of file
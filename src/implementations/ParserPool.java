@@ -0,0 +1,82 @@
+package implementations;
+
+/**
+ * This class holds a fixed number of reusable parsers for threads to share. A
+ * thread takes a parser, validates with it, reads the errors it returned and
+ * gives it back; the errors belong to the parser, so they must be read before
+ * it is released. Every parser has the settings of the template it was copied
+ * from and keeps its buffers between files, whichever thread used it last.
+ *
+ * The idle parsers are kept in a {@link MyBoundedBlockingQueue}, so a thread
+ * that finds none idle waits until another is released.
+ */
+public class ParserPool
+{
+	private final MyBoundedBlockingQueue<Parser> idle;
+	private final int size;
+
+	/**
+	 * Creates a pool of reusable copies of a parser.
+	 *
+	 * @param template the parser whose settings every pooled parser copies
+	 * @param size     the number of parsers in the pool, at least 1
+	 */
+	public ParserPool(Parser template, int size)
+	{
+		if (size < 1)
+		{
+			throw new IllegalArgumentException("Pool size must be at least 1.");
+		}
+		this.size = size;
+		this.idle = new MyBoundedBlockingQueue<>(size);
+		for (int i = 0; i < size; i++)
+		{
+			Parser parser = new Parser(template);
+			parser.setReusable(true);
+			idle.enqueue(parser);
+		}
+	}
+
+	/**
+	 * Takes an idle parser, waiting until one is released if there is none.
+	 *
+	 * @return a parser for the calling thread's use only
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public Parser take() throws InterruptedException
+	{
+		return idle.take();
+	}
+
+	/**
+	 * Gives back a parser taken from this pool. The errors it returned last must
+	 * no longer be in use.
+	 *
+	 * @param parser the parser to give back
+	 * @throws IllegalStateException if more parsers are released than were taken
+	 */
+	public void release(Parser parser)
+	{
+		idle.enqueue(parser);
+	}
+
+	/**
+	 * Returns the number of parsers in the pool, idle or not.
+	 *
+	 * @return the size of the pool
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the number of parsers waiting to be taken.
+	 *
+	 * @return the number of idle parsers
+	 */
+	public int idle()
+	{
+		return idle.size();
+	}
+}
@@ -0,0 +1,133 @@
+package implementations;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class reads a UTF-8 file as characters, like an InputStreamReader over a
+ * FileInputStream, but can be opened again on another file once closed. The
+ * byte buffer and the decoder are kept from one file to the next, so reading a
+ * file allocates only the stream that opens it. Malformed input is replaced
+ * with U+FFFD, as an InputStreamReader does.
+ */
+public class ReusableFileReader extends Reader
+{
+	private static final int BUFFER_SIZE = 8192;
+
+	private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+			.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+	private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+	private InputStream in;
+	private long bytesRead;
+	private boolean endOfInput;
+	private boolean flushed;
+	// the view of the last array read into, kept while callers reuse the array
+	private CharBuffer chars = CharBuffer.allocate(0);
+
+	/**
+	 * Opens a file, closing the file read before if it is still open.
+	 *
+	 * @param fileName the file to read.
+	 * @throws IOException if the file cannot be opened.
+	 */
+	public void open(String fileName) throws IOException
+	{
+		close();
+		in = new FileInputStream(fileName);
+		bytes.clear().flip();
+		bytesRead = 0;
+		decoder.reset();
+		endOfInput = false;
+		flushed = false;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException
+	{
+		if (in == null)
+		{
+			throw new IOException("Reader is closed.");
+		}
+		if (len == 0)
+		{
+			return 0;
+		}
+		if (flushed)
+		{
+			return -1;
+		}
+		if (chars.array() != cbuf)
+		{
+			chars = CharBuffer.wrap(cbuf);
+		}
+		chars.limit(off + len).position(off);
+		while (true)
+		{
+			CoderResult result = decoder.decode(bytes, chars, endOfInput);
+			if (result.isOverflow())
+			{
+				break;
+			}
+			if (endOfInput)
+			{
+				decoder.flush(chars);
+				flushed = true;
+				break;
+			}
+			if (chars.position() > off)
+			{
+				// return what has been decoded rather than wait for more bytes
+				break;
+			}
+			bytes.compact();
+			int count = in.read(bytes.array(), bytes.position(), bytes.remaining());
+			if (count < 0)
+			{
+				endOfInput = true;
+			} else
+			{
+				bytes.position(bytes.position() + count);
+				bytesRead += count;
+			}
+			bytes.flip();
+		}
+		int count = chars.position() - off;
+		return count == 0 && flushed ? -1 : count;
+	}
+
+	/**
+	 * Returns the number of bytes of the file decoded so far. Bytes read ahead
+	 * but not yet decoded are not counted; once the file has been read to its
+	 * end this is the size of the file. It stays readable after closing.
+	 *
+	 * @return the number of bytes decoded.
+	 */
+	public long getBytesRead()
+	{
+		return bytesRead - bytes.remaining();
+	}
+
+	/**
+	 * Closes the file being read. The reader can be opened again afterwards.
+	 *
+	 * @throws IOException if the file cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		if (in != null)
+		{
+			InputStream open = in;
+			in = null;
+			open.close();
+		}
+	}
+}
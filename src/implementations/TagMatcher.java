@@ -0,0 +1,544 @@
+package implementations;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the tag matching rules used by the Parser. Tag names are
+ * interned in a {@link TagSymbolTable}, start tag ids are pushed on a stack and
+ * end tag ids are matched against it; every problem found is recorded in an
+ * {@link ErrorBuffer} and only turned into text when it is read.
+ *
+ * A matcher can also validate one chunk of a larger file without knowing the
+ * tags left open by earlier chunks. In that mode an end tag that matches
+ * nothing in the chunk is deferred: the tags open in the chunk at that point
+ * and the end tag itself are written to the log, to be decided once the
+ * chunks before it are known. The tags still open at the end of the chunk
+ * stay on the stack. Two such partial results combine with
+ * {@link #append(TagMatcher)}, which replays the right-hand log against the
+ * left-hand state, and replaying the combined log into a matcher that does not
+ * defer gives exactly the errors a single pass over the file would give.
+ *
+ * With an error limit the matcher stops once the limit is reached. A chunk that
+ * stops early still gives exact results: every error after its last recorded
+ * error comes after at least the limit's worth of errors in the whole file.
+ *
+ * With a depth limit the stack of open tags is bounded, and a start tag that
+ * would nest deeper is reported and stops the matcher. A chunk cannot know how
+ * deep its tags really are, so each time its own nesting reaches a new depth
+ * since it last froze its stack it logs that depth and where it was reached.
+ * Once the depth of the tags before the chunk is known those entries give the
+ * first tag that went too deep.
+ *
+ * A chunk must start where the tokenizer is between tokens, which the chunk
+ * boundaries cannot always guarantee: a boundary may fall inside a comment,
+ * CDATA section or processing instruction that runs over several lines. A
+ * chunk whose input ended inside one is marked with
+ * {@link #setEndsInsideMarkup(boolean)}, and once a result is appended after it
+ * the combined result is {@link #isMisaligned() misaligned} and must not be
+ * used.
+ *
+ * A matcher that does not defer also remembers the deepest its tags nested.
+ * Chunks log their new depths for that too when asked to with
+ * {@link #setTrackingDepth(boolean)}, so the depth stays exact after their
+ * results are appended.
+ */
+public class TagMatcher
+{
+	/** The most tag names {@link #reset()} keeps from one input to the next. */
+	public static final int RETAINED_SYMBOLS = 4096;
+
+	// log entries that are not errors, kept only while deferring
+	private static final int OPEN = -1;
+	private static final int CLOSE = -2;
+	private static final int DEPTH = -3;
+
+	private final boolean deferring;
+	private final TagSymbolTable symbols;
+	private IntStack stack;
+	// how many times each tag id is on the stack, so lookups need no scan
+	private int[] openCounts = new int[16];
+	private final ErrorBuffer log;
+	private int lineBreaks;
+	private long length;
+	private boolean partialLine;
+	private int errorLimit = Integer.MAX_VALUE;
+	private int errorCount;
+	private boolean stopped;
+	private int maxDepth = Integer.MAX_VALUE;
+	// the deepest nesting since the stack was last frozen, kept only while deferring
+	private int segmentPeak;
+	private boolean trackingDepth;
+	// the deepest nesting so far, kept only while not deferring
+	private int peakDepth;
+	private boolean endsInsideMarkup;
+	private boolean misaligned;
+
+	/**
+	 * Creates a matcher.
+	 *
+	 * @param deferring true to validate a chunk whose preceding tags are unknown,
+	 *                  false to validate a whole document
+	 */
+	public TagMatcher(boolean deferring)
+	{
+		this.deferring = deferring;
+		this.symbols = new TagSymbolTable();
+		this.stack = new IntStack();
+		this.log = new ErrorBuffer(symbols);
+	}
+
+	/**
+	 * Empties the matcher so it can validate another input with the same limits,
+	 * keeping its storage. Tag names seen before stay in the symbol table, so
+	 * inputs that share tag names do not intern them again, unless the table has
+	 * grown past {@link #RETAINED_SYMBOLS} names, in which case it is cleared.
+	 * Errors returned by {@link #finish()} before are lost.
+	 */
+	public void reset()
+	{
+		while (!stack.isEmpty())
+		{
+			pop();
+		}
+		if (symbols.size() > RETAINED_SYMBOLS)
+		{
+			symbols.clear();
+		}
+		log.clear();
+		lineBreaks = 0;
+		length = 0;
+		partialLine = false;
+		errorCount = 0;
+		stopped = false;
+		segmentPeak = 0;
+		peakDepth = 0;
+		endsInsideMarkup = false;
+		misaligned = false;
+	}
+
+	/**
+	 * Returns the table that tag names passed to this matcher are interned in.
+	 *
+	 * @return the symbol table of this matcher
+	 */
+	public TagSymbolTable getSymbols()
+	{
+		return symbols;
+	}
+
+	/**
+	 * Sets the most errors to record. Once that many are recorded the matcher
+	 * stops and ignores everything after.
+	 *
+	 * @param errorLimit the most errors to record, at least 1
+	 */
+	public void setErrorLimit(int errorLimit)
+	{
+		if (errorLimit < 1)
+		{
+			throw new IllegalArgumentException("Error limit must be at least 1.");
+		}
+		this.errorLimit = errorLimit;
+	}
+
+	/**
+	 * Sets the deepest the tags may nest. A start tag that would nest deeper is
+	 * reported and stops the matcher, so the stack of open tags never holds more
+	 * than this many tags. Must be called before any tags are passed in.
+	 *
+	 * @param maxDepth the most tags that may be open at once, at least 1
+	 */
+	public void setMaxDepth(int maxDepth)
+	{
+		if (maxDepth < 1)
+		{
+			throw new IllegalArgumentException("Depth limit must be at least 1.");
+		}
+		this.maxDepth = maxDepth;
+		this.stack = new IntStack(maxDepth);
+	}
+
+	/**
+	 * Makes a deferring matcher log each new depth its tags reach even without a
+	 * depth limit, so that a matcher its result is appended to knows the deepest
+	 * the tags nested. Must be called before any tags are passed in.
+	 *
+	 * @param trackingDepth true to log the depths
+	 */
+	public void setTrackingDepth(boolean trackingDepth)
+	{
+		this.trackingDepth = trackingDepth;
+	}
+
+	/**
+	 * Returns the deepest the tags have nested so far. For a matcher that does
+	 * not defer, and has had chunks appended, this is only exact if the chunks
+	 * were tracking depth or had a depth limit.
+	 *
+	 * @return the most tags that were open at once
+	 */
+	public int getPeakDepth()
+	{
+		return peakDepth;
+	}
+
+	/**
+	 * Returns the number of line breaks in the input seen, as set by
+	 * {@link #setExtent(int, long, boolean)} and added to by appended chunks.
+	 *
+	 * @return the number of line breaks
+	 */
+	public int getLineBreaks()
+	{
+		return lineBreaks;
+	}
+
+	/**
+	 * Returns the number of lines in the input seen. The empty line after a
+	 * final line break is not counted, so empty input has no lines.
+	 *
+	 * @return the number of lines
+	 */
+	public int getLines()
+	{
+		return partialLine ? lineBreaks + 1 : lineBreaks;
+	}
+
+	/**
+	 * Returns the length of the input seen, as set by
+	 * {@link #setExtent(int, long, boolean)} and added to by appended chunks.
+	 *
+	 * @return the length of the input
+	 */
+	public long getLength()
+	{
+		return length;
+	}
+
+	/**
+	 * Marks whether the input seen ended inside markup that runs across lines,
+	 * so that the input appended after it did not start between tokens.
+	 *
+	 * @param endsInsideMarkup true if the input was cut off inside markup
+	 */
+	public void setEndsInsideMarkup(boolean endsInsideMarkup)
+	{
+		this.endsInsideMarkup = endsInsideMarkup;
+	}
+
+	/**
+	 * Returns true if a chunk appended to this result started inside markup left
+	 * open by the chunk before it, so its tokens, and the errors found from them,
+	 * are wrong. The input must then be validated without splitting it there.
+	 *
+	 * @return true if a chunk boundary fell inside markup
+	 */
+	public boolean isMisaligned()
+	{
+		return misaligned;
+	}
+
+	/**
+	 * Returns true once the error limit or the depth limit has been reached,
+	 * meaning the rest of the input does not need to be read.
+	 *
+	 * @return true if the matcher has stopped
+	 */
+	public boolean isStopped()
+	{
+		return stopped;
+	}
+
+	/**
+	 * Records a start tag, unless it would nest deeper than the depth limit.
+	 *
+	 * @param tagId  the id of the tag name in this matcher's symbol table
+	 * @param line   the line the start tag is on
+	 * @param column the column the start tag starts at
+	 * @param offset the position of the start tag in the input
+	 */
+	public void startTag(int tagId, int line, int column, long offset)
+	{
+		if (reachDepth(stack.size() + 1, tagId, line, column, offset))
+		{
+			push(tagId);
+		}
+	}
+
+	/**
+	 * Matches an end tag against the open tags. A tag closed while tags opened
+	 * inside it are still open pops those tags as improperly nested.
+	 *
+	 * @param tagId  the id of the tag name in this matcher's symbol table
+	 * @param line   the line the end tag is on
+	 * @param column the column the end tag starts at
+	 * @param offset the position of the end tag in the input
+	 */
+	public void endTag(int tagId, int line, int column, long offset)
+	{
+		// Check if matches with the top of the stack
+		if (!stack.isEmpty() && stack.peekUnchecked() == tagId)
+		{
+			pop(); // Valid match
+		} else if (isOpen(tagId))
+		{
+			while (stack.peekUnchecked() != tagId)
+			{
+				error(ValidationError.IMPROPER_NESTING, line, column, offset, pop(), tagId);
+			}
+			pop();
+		} else if (deferring)
+		{
+			// the tag may have been opened in an earlier chunk
+			freezeStack();
+			log.add(CLOSE, line, column, offset, tagId, -1);
+		} else if (!stack.isEmpty())
+		{
+			error(ValidationError.MISMATCHED_END_TAG, line, column, offset, tagId, -1);
+		} else
+		{
+			error(ValidationError.UNMATCHED_END_TAG, line, column, offset, tagId, -1);
+		}
+	}
+
+	/**
+	 * Matches an end tag whose name is not in this matcher's symbol table, so no
+	 * tag of that name is open here. The name is kept with the errors rather than
+	 * interned.
+	 *
+	 * @param name   the name of the end tag
+	 * @param line   the line the end tag is on
+	 * @param column the column the end tag starts at
+	 * @param offset the position of the end tag in the input
+	 */
+	public void endTag(String name, int line, int column, long offset)
+	{
+		if (!stopped)
+		{
+			endTag(log.addName(name), line, column, offset);
+		}
+	}
+
+	/**
+	 * Records malformed markup. The markup is kept with the errors rather than
+	 * interned.
+	 *
+	 * @param markup the offending markup
+	 * @param line   the line the markup is on
+	 * @param column the column the markup starts at
+	 * @param offset the position of the markup in the input
+	 */
+	public void invalidTag(String markup, int line, int column, long offset)
+	{
+		if (!stopped)
+		{
+			error(ValidationError.INVALID_TAG, line, column, offset, log.addName(markup), -1);
+		}
+	}
+
+	/**
+	 * Sets how much input this matcher has seen, so that the positions of a
+	 * matcher appended after this one can be shifted.
+	 *
+	 * @param lineBreaks  the number of line breaks seen
+	 * @param length      the length of the input seen
+	 * @param partialLine true if the input seen ends partway through a line
+	 */
+	public void setExtent(int lineBreaks, long length, boolean partialLine)
+	{
+		this.lineBreaks = lineBreaks;
+		this.length = length;
+		this.partialLine = partialLine;
+	}
+
+	/**
+	 * Adds the partial result of the chunk that directly follows this one. The
+	 * other matcher's lines and offsets are shifted past this chunk and its tag
+	 * ids are translated into this matcher's symbol table. Chunks start at the
+	 * beginning of a line, so columns need no shifting.
+	 *
+	 * @param next the matcher of the following chunk
+	 */
+	public void append(TagMatcher next)
+	{
+		// once stopped, nothing from the next chunk is used, right or wrong
+		if (!stopped && (endsInsideMarkup || next.misaligned))
+		{
+			misaligned = true;
+		}
+		endsInsideMarkup = next.endsInsideMarkup;
+		ErrorBuffer entries = next.log;
+		for (int i = 0; i < entries.size() && !stopped; i++)
+		{
+			int kind = entries.getKind(i);
+			int tagId = translate(next, entries.getTagId(i));
+			int line = entries.getLine(i) + lineBreaks;
+			int column = entries.getColumn(i);
+			long offset = entries.getOffset(i) + length;
+			if (kind == OPEN)
+			{
+				push(tagId);
+			} else if (kind == DEPTH)
+			{
+				// the other id holds the depth within the chunk's open tags
+				reachDepth(stack.size() + entries.getOtherTagId(i), tagId, line, column, offset);
+			} else if (kind == CLOSE)
+			{
+				endTag(tagId, line, column, offset);
+			} else
+			{
+				error(kind, line, column, offset, tagId, translate(next, entries.getOtherTagId(i)));
+			}
+		}
+		// count the input even if it was cut short, so the extent is what was read
+		lineBreaks += next.lineBreaks;
+		length += next.length;
+		if (next.length > 0)
+		{
+			partialLine = next.partialLine;
+		}
+		if (stopped)
+		{
+			return;
+		}
+		for (int i = 0; i < next.stack.size(); i++)
+		{
+			push(translate(next, next.stack.get(i)));
+		}
+		stopped = next.stopped;
+	}
+
+	/**
+	 * Adds the start tags that were never closed to the errors and returns every
+	 * error found, in the order found. The matcher must not be deferring. If a
+	 * limit stopped the matcher before the end of the input, the errors are
+	 * marked as truncated and unclosed tags are not reported, since the input was
+	 * not read to the end. If the error limit is reached while reporting unclosed
+	 * tags, the input was still read to the end, so the errors are not truncated;
+	 * the tags left unreported are counted instead.
+	 *
+	 * @return the errors found
+	 */
+	public ErrorBuffer finish()
+	{
+		boolean readToEnd = !stopped;
+		// Report unclosed start tags
+		while (!stack.isEmpty() && !stopped)
+		{
+			error(ValidationError.UNCLOSED_START_TAG, 0, 0, -1, pop(), -1);
+		}
+		log.setTruncated(!readToEnd);
+		log.setOmittedUnclosedTags(readToEnd ? stack.size() : 0);
+		return log;
+	}
+
+	/**
+	 * Records an error, stopping the matcher once the error limit is reached.
+	 * Errors found after that are dropped.
+	 */
+	private void error(int kind, int line, int column, long offset, int tagId, int otherId)
+	{
+		if (stopped)
+		{
+			return;
+		}
+		log.add(kind, line, column, offset, tagId, otherId);
+		if (++errorCount >= errorLimit)
+		{
+			stopped = true;
+		}
+	}
+
+	/**
+	 * Checks a depth the open tags reach, counting the tag that reaches it.
+	 * While deferring, a new deepest point is logged to be checked once the tags
+	 * before the chunk are known. Past the depth limit the matcher stops.
+	 *
+	 * @return true if the depth is within the limit
+	 */
+	private boolean reachDepth(int depth, int tagId, int line, int column, long offset)
+	{
+		if (deferring && depth > segmentPeak && (maxDepth != Integer.MAX_VALUE || trackingDepth))
+		{
+			segmentPeak = depth;
+			log.add(DEPTH, line, column, offset, tagId, depth);
+		}
+		if (depth <= maxDepth)
+		{
+			if (depth > peakDepth)
+			{
+				peakDepth = depth;
+			}
+			return true;
+		}
+		if (!deferring)
+		{
+			error(ValidationError.DEPTH_EXCEEDED, line, column, offset, tagId, -1);
+		}
+		stopped = true;
+		return false;
+	}
+
+	/**
+	 * Moves the open tags into the log so that later tags are matched against an
+	 * empty stack; how the open tags end up depends on earlier chunks.
+	 */
+	private void freezeStack()
+	{
+		for (int i = 0; i < stack.size(); i++)
+		{
+			int tagId = stack.get(i);
+			openCounts[tagId] = 0;
+			log.add(OPEN, 0, 0, -1, tagId, -1);
+		}
+		stack.clear();
+		segmentPeak = 0;
+	}
+
+	/**
+	 * Returns true if a tag with the given id is open anywhere on the stack.
+	 */
+	private boolean isOpen(int tagId)
+	{
+		return tagId >= 0 && tagId < openCounts.length && openCounts[tagId] > 0;
+	}
+
+	/**
+	 * Pushes a tag whose depth has already been checked.
+	 */
+	private void push(int tagId)
+	{
+		if (tagId >= openCounts.length)
+		{
+			openCounts = Arrays.copyOf(openCounts, Math.max(tagId + 1, openCounts.length * 2));
+		}
+		openCounts[tagId]++;
+		stack.push(tagId);
+	}
+
+	/**
+	 * Pops the top tag. The stack must not be empty.
+	 */
+	private int pop()
+	{
+		int tagId = stack.popUnchecked();
+		openCounts[tagId]--;
+		return tagId;
+	}
+
+	/**
+	 * Translates a tag id of another matcher into this one. A name the other
+	 * matcher kept only with its errors is looked up, since a tag of that name
+	 * may be open here, and otherwise kept with this matcher's errors.
+	 */
+	private int translate(TagMatcher other, int tagId)
+	{
+		if (tagId >= -1)
+		{
+			return tagId < 0 ? -1 : symbols.intern(other.symbols.name(tagId));
+		}
+		String name = other.log.tagName(tagId);
+		int id = symbols.find(name);
+		return id >= 0 ? id : log.addName(name);
+	}
+}
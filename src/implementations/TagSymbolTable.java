@@ -0,0 +1,204 @@
+package implementations;
+
+import java.util.Arrays;
+
+/**
+ * This class gives every distinct tag name a small integer id, starting at 0.
+ * Names are looked up straight from a character buffer, so finding a name that
+ * has been seen before allocates nothing; a String is only created the first
+ * time a name is added. Comparing two tags is then an int comparison.
+ */
+public class TagSymbolTable
+{
+	private static final int INITIAL_SLOTS = 64;
+	private static final int INITIAL_CHARS = 512;
+
+	// open addressing table of id + 1, 0 marks an empty slot
+	private int[] slots = new int[INITIAL_SLOTS];
+	private int[] hashes = new int[INITIAL_SLOTS / 2];
+	private int[] starts = new int[INITIAL_SLOTS / 2];
+	private int[] lengths = new int[INITIAL_SLOTS / 2];
+	private String[] names = new String[INITIAL_SLOTS / 2];
+	private char[] chars = new char[INITIAL_CHARS];
+	private int charCount;
+	private int size;
+	private char[] scratch = new char[32];
+
+	/**
+	 * Returns the id of the name held in the first length characters of a buffer,
+	 * or -1 if the name has not been added.
+	 *
+	 * @param buffer the characters of the name
+	 * @param length the length of the name
+	 * @return the id of the name, or -1 if not found
+	 */
+	public int find(char[] buffer, int length)
+	{
+		int hash = hash(buffer, length);
+		int mask = slots.length - 1;
+		for (int slot = hash & mask;; slot = (slot + 1) & mask)
+		{
+			int id = slots[slot] - 1;
+			if (id < 0)
+			{
+				return -1;
+			}
+			if (hashes[id] == hash && matches(id, buffer, length))
+			{
+				return id;
+			}
+		}
+	}
+
+	/**
+	 * Adds a name that is not yet in the table.
+	 *
+	 * @param buffer the characters of the name, used as the lookup key
+	 * @param length the length of the name
+	 * @param name   the name as it should be displayed
+	 * @return the id given to the name
+	 */
+	public int add(char[] buffer, int length, String name)
+	{
+		if (size == names.length)
+		{
+			growEntries();
+		}
+		if (charCount + length > chars.length)
+		{
+			chars = Arrays.copyOf(chars, Math.max(charCount + length, chars.length * 2));
+		}
+		int id = size++;
+		System.arraycopy(buffer, 0, chars, charCount, length);
+		starts[id] = charCount;
+		lengths[id] = length;
+		hashes[id] = hash(buffer, length);
+		names[id] = name;
+		charCount += length;
+		insert(id);
+		return id;
+	}
+
+	/**
+	 * Returns the id of a name, adding the name if it is new.
+	 *
+	 * @param name the name to look up
+	 * @return the id of the name
+	 */
+	public int intern(String name)
+	{
+		int id = find(name);
+		return id >= 0 ? id : add(scratch, name.length(), name);
+	}
+
+	/**
+	 * Returns the id of a name, or -1 if the name has not been added.
+	 *
+	 * @param name the name to look up
+	 * @return the id of the name, or -1 if not found
+	 */
+	public int find(String name)
+	{
+		int length = name.length();
+		if (scratch.length < length)
+		{
+			scratch = new char[length];
+		}
+		name.getChars(0, length, scratch, 0);
+		return find(scratch, length);
+	}
+
+	/**
+	 * Returns the name with the given id.
+	 *
+	 * @param id an id returned by this table
+	 * @return the name with that id
+	 */
+	public String name(int id)
+	{
+		return names[id];
+	}
+
+	/**
+	 * Returns the number of distinct names in the table.
+	 *
+	 * @return the number of names
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Removes every name, keeping the storage for reuse. Ids handed out before
+	 * are given out again to new names.
+	 */
+	public void clear()
+	{
+		Arrays.fill(slots, 0);
+		Arrays.fill(names, 0, size, null);
+		size = 0;
+		charCount = 0;
+	}
+
+	private boolean matches(int id, char[] buffer, int length)
+	{
+		if (lengths[id] != length)
+		{
+			return false;
+		}
+		int start = starts[id];
+		for (int i = 0; i < length; i++)
+		{
+			if (chars[start + i] != buffer[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void insert(int id)
+	{
+		if (size * 2 > slots.length)
+		{
+			slots = new int[slots.length * 2];
+			for (int i = 0; i < size - 1; i++)
+			{
+				place(i);
+			}
+		}
+		place(id);
+	}
+
+	private void place(int id)
+	{
+		int mask = slots.length - 1;
+		int slot = hashes[id] & mask;
+		while (slots[slot] != 0)
+		{
+			slot = (slot + 1) & mask;
+		}
+		slots[slot] = id + 1;
+	}
+
+	private void growEntries()
+	{
+		int capacity = names.length * 2;
+		hashes = Arrays.copyOf(hashes, capacity);
+		starts = Arrays.copyOf(starts, capacity);
+		lengths = Arrays.copyOf(lengths, capacity);
+		names = Arrays.copyOf(names, capacity);
+	}
+
+	private static int hash(char[] buffer, int length)
+	{
+		int hash = 0;
+		for (int i = 0; i < length; i++)
+		{
+			hash = 31 * hash + buffer[i];
+		}
+		// spread the high bits into the low bits used for the slot index
+		return hash ^ (hash >>> 16);
+	}
+}
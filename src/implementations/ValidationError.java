@@ -0,0 +1,174 @@
+package implementations;
+
+import java.util.Objects;
+
+/**
+ * This class describes one problem found while validating an XML file: what
+ * kind of problem it is, where it was found and which tags were involved. The
+ * Parser records errors in an {@link ErrorBuffer}; objects of this class are
+ * only created when an error is read back out, and the message text is only
+ * built when asked for.
+ *
+ * Two errors are equal when they are of the same kind, at the same position,
+ * about the same tags by name. Tag ids are not compared, since they depend on
+ * the symbol table the error was read through.
+ */
+public class ValidationError
+{
+	/** Malformed markup such as <code>&lt;&gt;</code> or a stray '&gt;'. */
+	public static final int INVALID_TAG = 1;
+	/** A tag was closed while tags opened inside it were still open. */
+	public static final int IMPROPER_NESTING = 2;
+	/** An end tag matches no open tag while other tags are open. */
+	public static final int MISMATCHED_END_TAG = 3;
+	/** An end tag was found with no tags open. */
+	public static final int UNMATCHED_END_TAG = 4;
+	/** A start tag was never closed. */
+	public static final int UNCLOSED_START_TAG = 5;
+	/** A start tag would nest deeper than the parser's depth limit. */
+	public static final int DEPTH_EXCEEDED = 6;
+
+	private final int kind;
+	private final int line;
+	private final int column;
+	private final long offset;
+	private final int tagId;
+	private final int otherTagId;
+	private final String tagName;
+	private final String otherTagName;
+
+	/**
+	 * Creates an error record.
+	 *
+	 * @param kind         one of the kind constants of this class
+	 * @param line         the line the error was found on, or 0 if none
+	 * @param column       the column the error was found at, or 0 if none
+	 * @param offset       the position of the error from the start of the input,
+	 *                     or -1 if none
+	 * @param tagId        the symbol id of the tag, or of the malformed markup,
+	 *                     involved
+	 * @param otherTagId   the symbol id of the closing tag involved in an
+	 *                     improper nesting, or -1 if none
+	 * @param tagName      the tag involved, or the malformed markup of an invalid
+	 *                     tag
+	 * @param otherTagName the closing tag involved in an improper nesting, or null
+	 */
+	public ValidationError(int kind, int line, int column, long offset, int tagId, int otherTagId, String tagName,
+			String otherTagName)
+	{
+		this.kind = kind;
+		this.line = line;
+		this.column = column;
+		this.offset = offset;
+		this.tagId = tagId;
+		this.otherTagId = otherTagId;
+		this.tagName = tagName;
+		this.otherTagName = otherTagName;
+	}
+
+	public int getKind()
+	{
+		return kind;
+	}
+
+	public int getLine()
+	{
+		return line;
+	}
+
+	public int getColumn()
+	{
+		return column;
+	}
+
+	public long getOffset()
+	{
+		return offset;
+	}
+
+	public int getTagId()
+	{
+		return tagId;
+	}
+
+	public int getOtherTagId()
+	{
+		return otherTagId;
+	}
+
+	public String getTagName()
+	{
+		return tagName;
+	}
+
+	public String getOtherTagName()
+	{
+		return otherTagName;
+	}
+
+	/**
+	 * Returns the human-readable description of this error.
+	 *
+	 * @return the error message
+	 */
+	public String getMessage()
+	{
+		return describe(kind, line, tagName, otherTagName);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getMessage();
+	}
+
+	@Override
+	public boolean equals(Object other)
+	{
+		if (this == other)
+		{
+			return true;
+		}
+		if (!(other instanceof ValidationError))
+		{
+			return false;
+		}
+		ValidationError that = (ValidationError) other;
+		return kind == that.kind && line == that.line && column == that.column && offset == that.offset
+				&& Objects.equals(tagName, that.tagName) && Objects.equals(otherTagName, that.otherTagName);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Objects.hash(kind, line, column, offset, tagName, otherTagName);
+	}
+
+	/**
+	 * Builds the message for an error of the given kind.
+	 *
+	 * @param kind         one of the kind constants of this class
+	 * @param line         the line the error was found on
+	 * @param tagName      the tag involved, or the malformed markup
+	 * @param otherTagName the closing tag of an improper nesting
+	 * @return the error message
+	 */
+	static String describe(int kind, int line, String tagName, String otherTagName)
+	{
+		switch (kind)
+		{
+		case INVALID_TAG:
+			return "Invalid tag at line " + line + ": " + tagName;
+		case IMPROPER_NESTING:
+			return "Error at line " + line + ": Improperly nested tags: <" + tagName + "> and </" + otherTagName + ">";
+		case MISMATCHED_END_TAG:
+			return "Error at line " + line + ": Mismatched end tag: </" + tagName + ">";
+		case UNMATCHED_END_TAG:
+			return "Error at line " + line + ": Unmatched end tag: </" + tagName + ">";
+		case DEPTH_EXCEEDED:
+			return "Error at line " + line + ": Tags nested too deeply: <" + tagName + ">";
+		default:
+			return "Error: Unclosed start tag: <" + tagName + ">";
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package implementations;
+
+import java.nio.ByteBuffer;
+
+import utilities.RecordCodec;
+
+/**
+ * This class writes a {@link ValidationError} as a 28 byte record of its kind,
+ * position and tag ids, for keeping large numbers of errors in a
+ * {@link MyOffHeapQueue}. Tag names are not stored; they are looked up in the
+ * symbol table the ids came from when a record is read. An error whose name is
+ * not in the table, such as the markup of an invalid tag, has it added when
+ * written.
+ */
+public class ValidationErrorCodec implements RecordCodec<ValidationError>
+{
+	private static final int RECORD_SIZE = 28;
+
+	private final TagSymbolTable symbols;
+
+	/**
+	 * Creates a codec for errors whose tag ids refer to the given table.
+	 *
+	 * @param symbols the table tag ids are looked up in
+	 */
+	public ValidationErrorCodec(TagSymbolTable symbols)
+	{
+		this.symbols = symbols;
+	}
+
+	@Override
+	public int recordSize()
+	{
+		return RECORD_SIZE;
+	}
+
+	@Override
+	public void write(ValidationError error, ByteBuffer buffer, int offset)
+	{
+		buffer.putInt(offset, error.getKind());
+		buffer.putInt(offset + 4, error.getLine());
+		buffer.putInt(offset + 8, error.getColumn());
+		buffer.putLong(offset + 12, error.getOffset());
+		buffer.putInt(offset + 20, tagId(error.getTagId(), error.getTagName()));
+		buffer.putInt(offset + 24, tagId(error.getOtherTagId(), error.getOtherTagName()));
+	}
+
+	@Override
+	public ValidationError read(ByteBuffer buffer, int offset)
+	{
+		int tagId = buffer.getInt(offset + 20);
+		int otherId = buffer.getInt(offset + 24);
+		return new ValidationError(buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getInt(offset + 8),
+				buffer.getLong(offset + 12), tagId, otherId, tagName(tagId), tagName(otherId));
+	}
+
+	private int tagId(int tagId, String tagName)
+	{
+		return tagId < 0 && tagName != null ? symbols.intern(tagName) : tagId;
+	}
+
+	private String tagName(int tagId)
+	{
+		return tagId < 0 ? null : symbols.name(tagId);
+	}
+}
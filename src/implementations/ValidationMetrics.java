@@ -0,0 +1,310 @@
+package implementations;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * This class counts what the Parser does: files, input, lines, tokens of each
+ * kind, the deepest nesting, errors of each kind, and how long was spent
+ * reading input compared with tokenizing and matching it, with histograms of
+ * the time and size of each file. It is filled in by a Parser given it with
+ * {@link Parser#setMetrics(ValidationMetrics)}; a Parser without one does no
+ * counting or timing at all.
+ *
+ * The counts of one file, or one chunk of a file, are gathered privately and
+ * added here once, so one object can be shared by every thread of a batch. It
+ * can be registered as an MXBean and read back as one line of JSON.
+ */
+public class ValidationMetrics implements ValidationMetricsMXBean
+{
+	/** The name the metrics are registered under by {@link #register()}. */
+	public static final String OBJECT_NAME = "implementations:type=ValidationMetrics";
+
+	private static final int BUCKETS = 64;
+	private static final String[] ERROR_NAMES = { "", "invalidTag", "improperNesting", "mismatchedEndTag",
+			"unmatchedEndTag", "unclosedStartTag", "depthExceeded" };
+
+	private long files;
+	private long truncatedFiles;
+	private long bytes;
+	private long lines;
+	private final long[] tokens = new long[XMLTokenizer.INVALID + 1];
+	private int peakDepth;
+	private final long[] errors = new long[ERROR_NAMES.length];
+	private long readNanos;
+	private long matchNanos;
+	private long validationNanos;
+	private final long[] fileTimes = new long[BUCKETS];
+	private final long[] fileSizes = new long[BUCKETS];
+
+	/**
+	 * Adds the tokens read by one pass over a file or chunk and the time it took.
+	 *
+	 * @param counts    the number of tokens of each type, indexed by the token
+	 *                  constants of {@link XMLTokenizer}
+	 * @param readNanos the time spent reading input
+	 * @param nanos     the time the whole pass took, including reading
+	 */
+	public synchronized void addTokens(long[] counts, long readNanos, long nanos)
+	{
+		for (int i = 0; i < counts.length; i++)
+		{
+			tokens[i] += counts[i];
+		}
+		this.readNanos += readNanos;
+		this.matchNanos += nanos - readNanos;
+	}
+
+	/**
+	 * Adds the tokens and times gathered by other metrics, such as those the
+	 * chunks of one file were counted in before the file was known to be split
+	 * well. Files, errors and histograms are not added.
+	 *
+	 * @param other the metrics to add the tokens and times of
+	 */
+	public void addTokens(ValidationMetrics other)
+	{
+		long[] counts;
+		long otherRead;
+		long otherNanos;
+		synchronized (other)
+		{
+			counts = other.tokens.clone();
+			otherRead = other.readNanos;
+			otherNanos = other.readNanos + other.matchNanos;
+		}
+		addTokens(counts, otherRead, otherNanos);
+	}
+
+	/**
+	 * Adds a validated file.
+	 *
+	 * @param matcher the matcher that validated the file, after finishing
+	 * @param found   the errors found
+	 * @param bytes   the number of bytes of the file read
+	 * @param nanos   the time from starting the file to finishing it
+	 */
+	public synchronized void addFile(TagMatcher matcher, ErrorBuffer found, long bytes, long nanos)
+	{
+		files++;
+		if (found.isTruncated())
+		{
+			truncatedFiles++;
+		}
+		this.bytes += bytes;
+		lines += matcher.getLines();
+		peakDepth = Math.max(peakDepth, matcher.getPeakDepth());
+		for (int i = 0; i < found.size(); i++)
+		{
+			errors[found.getKind(i)]++;
+		}
+		validationNanos += nanos;
+		fileTimes[bucket(nanos)]++;
+		fileSizes[bucket(bytes)]++;
+	}
+
+	/**
+	 * Registers these metrics with the platform MBean server under
+	 * {@link #OBJECT_NAME}.
+	 *
+	 * @return the name registered
+	 * @throws JMException if the metrics cannot be registered, for example
+	 *                     because the name is already taken
+	 */
+	public ObjectName register() throws JMException
+	{
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+		return name;
+	}
+
+	@Override
+	public synchronized long getFiles()
+	{
+		return files;
+	}
+
+	@Override
+	public synchronized long getTruncatedFiles()
+	{
+		return truncatedFiles;
+	}
+
+	@Override
+	public synchronized long getBytes()
+	{
+		return bytes;
+	}
+
+	@Override
+	public synchronized long getLines()
+	{
+		return lines;
+	}
+
+	@Override
+	public synchronized long getStartTags()
+	{
+		return tokens[XMLTokenizer.START_TAG];
+	}
+
+	@Override
+	public synchronized long getEndTags()
+	{
+		return tokens[XMLTokenizer.END_TAG];
+	}
+
+	@Override
+	public synchronized long getEmptyTags()
+	{
+		return tokens[XMLTokenizer.EMPTY_TAG];
+	}
+
+	@Override
+	public synchronized long getInvalidTags()
+	{
+		return tokens[XMLTokenizer.INVALID];
+	}
+
+	@Override
+	public synchronized long getOtherTokens()
+	{
+		return tokens[XMLTokenizer.PROCESSING_INSTRUCTION] + tokens[XMLTokenizer.COMMENT]
+				+ tokens[XMLTokenizer.TEXT] + tokens[XMLTokenizer.DECLARATION];
+	}
+
+	@Override
+	public synchronized int getPeakDepth()
+	{
+		return peakDepth;
+	}
+
+	@Override
+	public synchronized long getErrors()
+	{
+		long total = 0;
+		for (long count : errors)
+		{
+			total += count;
+		}
+		return total;
+	}
+
+	@Override
+	public synchronized long[] getErrorsByKind()
+	{
+		return errors.clone();
+	}
+
+	@Override
+	public synchronized long getReadNanos()
+	{
+		return readNanos;
+	}
+
+	@Override
+	public synchronized long getMatchNanos()
+	{
+		return matchNanos;
+	}
+
+	@Override
+	public synchronized long getValidationNanos()
+	{
+		return validationNanos;
+	}
+
+	@Override
+	public synchronized long[] getFileTimeHistogram()
+	{
+		return fileTimes.clone();
+	}
+
+	@Override
+	public synchronized long[] getFileSizeHistogram()
+	{
+		return fileSizes.clone();
+	}
+
+	@Override
+	public synchronized String getSummary()
+	{
+		StringBuilder json = new StringBuilder(512);
+		json.append("{\"files\":").append(files);
+		json.append(",\"truncatedFiles\":").append(truncatedFiles);
+		json.append(",\"bytes\":").append(bytes);
+		json.append(",\"lines\":").append(lines);
+		json.append(",\"startTags\":").append(getStartTags());
+		json.append(",\"endTags\":").append(getEndTags());
+		json.append(",\"emptyTags\":").append(getEmptyTags());
+		json.append(",\"invalidTags\":").append(getInvalidTags());
+		json.append(",\"otherTokens\":").append(getOtherTokens());
+		json.append(",\"peakDepth\":").append(peakDepth);
+		json.append(",\"errors\":{\"total\":").append(getErrors());
+		for (int kind = 1; kind < errors.length; kind++)
+		{
+			json.append(",\"").append(ERROR_NAMES[kind]).append("\":").append(errors[kind]);
+		}
+		json.append("},\"readNanos\":").append(readNanos);
+		json.append(",\"matchNanos\":").append(matchNanos);
+		json.append(",\"validationNanos\":").append(validationNanos);
+		json.append(",\"fileNanos\":");
+		appendHistogram(json, fileTimes);
+		json.append(",\"fileBytes\":");
+		appendHistogram(json, fileSizes);
+		return json.append('}').toString();
+	}
+
+	@Override
+	public synchronized void reset()
+	{
+		files = 0;
+		truncatedFiles = 0;
+		bytes = 0;
+		lines = 0;
+		Arrays.fill(tokens, 0);
+		peakDepth = 0;
+		Arrays.fill(errors, 0);
+		readNanos = 0;
+		matchNanos = 0;
+		validationNanos = 0;
+		Arrays.fill(fileTimes, 0);
+		Arrays.fill(fileSizes, 0);
+	}
+
+	/**
+	 * Writes the non-empty buckets of a histogram as pairs of the smallest value
+	 * the bucket holds and its count.
+	 */
+	private static void appendHistogram(StringBuilder json, long[] histogram)
+	{
+		json.append('[');
+		boolean first = true;
+		for (int b = 0; b < histogram.length; b++)
+		{
+			if (histogram[b] == 0)
+			{
+				continue;
+			}
+			if (!first)
+			{
+				json.append(',');
+			}
+			json.append('[').append(b == 0 ? 0 : 1L << (b - 1)).append(',').append(histogram[b]).append(']');
+			first = false;
+		}
+		json.append(']');
+	}
+
+	/**
+	 * Returns the power of two bucket of a value: 0 for 0, otherwise one more
+	 * than the position of its highest set bit.
+	 */
+	private static int bucket(long value)
+	{
+		return value <= 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(value);
+	}
+}
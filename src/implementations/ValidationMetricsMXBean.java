@@ -0,0 +1,109 @@
+package implementations;
+
+/**
+ * The management interface of {@link ValidationMetrics}, so that a running
+ * validator can be watched with JConsole or any other JMX client. Times are in
+ * nanoseconds. Histograms are arrays of counts where bucket <i>b</i> counts
+ * values from 2<sup><i>b</i>-1</sup> up to, but not including, 2<sup><i>b</i></sup>.
+ */
+public interface ValidationMetricsMXBean
+{
+	/**
+	 * @return the number of files validated
+	 */
+	public long getFiles();
+
+	/**
+	 * @return the number of files whose validation stopped at a limit
+	 */
+	public long getTruncatedFiles();
+
+	/**
+	 * @return the number of bytes of input read
+	 */
+	public long getBytes();
+
+	/**
+	 * @return the number of lines read, not counting the empty line after a
+	 *         final line break
+	 */
+	public long getLines();
+
+	/**
+	 * @return the number of start tags read
+	 */
+	public long getStartTags();
+
+	/**
+	 * @return the number of end tags read
+	 */
+	public long getEndTags();
+
+	/**
+	 * @return the number of self-closing tags read
+	 */
+	public long getEmptyTags();
+
+	/**
+	 * @return the number of pieces of malformed markup read
+	 */
+	public long getInvalidTags();
+
+	/**
+	 * @return the number of text, comment, declaration and processing
+	 *         instruction tokens read; text that runs across the boundary of
+	 *         two chunks of a file validated in parallel counts twice
+	 */
+	public long getOtherTokens();
+
+	/**
+	 * @return the deepest that tags nested in any one file
+	 */
+	public int getPeakDepth();
+
+	/**
+	 * @return the number of errors reported
+	 */
+	public long getErrors();
+
+	/**
+	 * @return the number of errors of each kind, indexed by the kind constants of
+	 *         {@link ValidationError}
+	 */
+	public long[] getErrorsByKind();
+
+	/**
+	 * @return the time spent reading input, summed over every thread
+	 */
+	public long getReadNanos();
+
+	/**
+	 * @return the time spent tokenizing and matching, summed over every thread
+	 */
+	public long getMatchNanos();
+
+	/**
+	 * @return the time from starting to finishing each file, summed over files
+	 */
+	public long getValidationNanos();
+
+	/**
+	 * @return a histogram of the time taken by each file, in nanoseconds
+	 */
+	public long[] getFileTimeHistogram();
+
+	/**
+	 * @return a histogram of the length of each file, in bytes
+	 */
+	public long[] getFileSizeHistogram();
+
+	/**
+	 * @return every metric as one line of JSON
+	 */
+	public String getSummary();
+
+	/**
+	 * Sets every metric back to zero.
+	 */
+	public void reset();
+}
@@ -0,0 +1,582 @@
+package implementations;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * This class walks an XML character stream exactly once and breaks it into
+ * tokens (start tags, end tags, self-closing tags, processing instructions,
+ * comments, declarations and text). It keeps its own read buffer and a reusable
+ * name buffer, so tokenizing does not allocate anything per line or per tag.
+ * Each token records the line and column where it starts.
+ */
+public class XMLTokenizer
+{
+	/** No more input is available. */
+	public static final int END_OF_INPUT = 0;
+	/** An opening tag such as <code>&lt;a href="x"&gt;</code>. */
+	public static final int START_TAG = 1;
+	/** A closing tag such as <code>&lt;/a&gt;</code>. */
+	public static final int END_TAG = 2;
+	/** A self-closing tag such as <code>&lt;br/&gt;</code>. */
+	public static final int EMPTY_TAG = 3;
+	/** A processing instruction or XML header such as <code>&lt;?xml ...?&gt;</code>. */
+	public static final int PROCESSING_INSTRUCTION = 4;
+	/** A comment such as <code>&lt;!-- ... --&gt;</code>. */
+	public static final int COMMENT = 5;
+	/** Character data between tags, including CDATA sections. */
+	public static final int TEXT = 6;
+	/** A markup declaration such as <code>&lt;!DOCTYPE ...&gt;</code>. */
+	public static final int DECLARATION = 7;
+	/** Malformed markup; the name buffer holds the offending characters. */
+	public static final int INVALID = 8;
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final int INITIAL_NAME_SIZE = 32;
+
+	private final Reader reader;
+	protected char[] buf;
+	protected int pos;
+	protected int limit;
+	protected long base;
+
+	private int line = 1;
+	private long lineStart;
+	private int tokenLine;
+	private int tokenColumn;
+	private long tokenOffset;
+
+	private char[] name = new char[INITIAL_NAME_SIZE];
+	private int nameLength;
+
+	private boolean timed;
+	private long readNanos;
+	private boolean unterminated;
+
+	/**
+	 * Creates a tokenizer that reads characters from the given reader.
+	 *
+	 * @param reader the source of XML characters.
+	 */
+	public XMLTokenizer(Reader reader)
+	{
+		this.reader = reader;
+		this.buf = new char[BUFFER_SIZE];
+	}
+
+	/**
+	 * Reads the next token from the input.
+	 *
+	 * @return one of the token type constants declared in this class.
+	 * @throws IOException if the underlying input cannot be read.
+	 */
+	public int next() throws IOException
+	{
+		nameLength = 0;
+		tokenLine = line;
+		tokenOffset = base + pos;
+		tokenColumn = (int) (tokenOffset - lineStart) + 1;
+
+		int c = read();
+		if (c == -1)
+		{
+			return END_OF_INPUT;
+		}
+		if (c == '>')
+		{
+			appendName('>');
+			return INVALID; // stray '>' in character data
+		}
+		if (c != '<')
+		{
+			return readText();
+		}
+
+		c = read();
+		if (c == '/')
+		{
+			return readEndTag();
+		}
+		if (c == '?')
+		{
+			return skipPast('?', 1) ? PROCESSING_INSTRUCTION : invalid("<?");
+		}
+		if (c == '!')
+		{
+			return readDeclaration();
+		}
+		if (c == -1 || c == '>' || c == '<' || isWhitespace(c))
+		{
+			if (c == '<')
+			{
+				unread();
+			}
+			appendName('<');
+			if (c == '>')
+			{
+				appendName('>');
+			}
+			return INVALID;
+		}
+		appendName((char) c);
+		return readStartTag();
+	}
+
+	/**
+	 * Returns the line on which the current token starts (1-based).
+	 *
+	 * @return the line of the current token.
+	 */
+	public int getLine()
+	{
+		return tokenLine;
+	}
+
+	/**
+	 * Returns the column at which the current token starts (1-based).
+	 *
+	 * @return the column of the current token.
+	 */
+	public int getColumn()
+	{
+		return tokenColumn;
+	}
+
+	/**
+	 * Returns the position of the first character of the current token, counted
+	 * from the start of the input. At the end of input this is the length of the
+	 * input.
+	 *
+	 * @return the offset of the current token.
+	 */
+	public long getOffset()
+	{
+		return tokenOffset;
+	}
+
+	/**
+	 * Returns the buffer holding the current tag name. Only the first
+	 * {@link #getNameLength()} characters are valid, and the buffer is reused by
+	 * the next call to {@link #next()}.
+	 *
+	 * @return the shared name buffer.
+	 */
+	public char[] getNameBuffer()
+	{
+		return name;
+	}
+
+	/**
+	 * Returns the number of valid characters in the name buffer.
+	 *
+	 * @return the length of the current tag name.
+	 */
+	public int getNameLength()
+	{
+		return nameLength;
+	}
+
+	/**
+	 * Returns the current tag name as a new String. For {@link #INVALID} tokens
+	 * this is the malformed markup that was found.
+	 *
+	 * @return the current tag name.
+	 */
+	public String getName()
+	{
+		return new String(name, 0, nameLength);
+	}
+
+	/**
+	 * Looks up the current tag name in a symbol table, adding it if it is new.
+	 * Only a name seen for the first time allocates a String.
+	 *
+	 * @param symbols the table to look the name up in.
+	 * @return the id of the current tag name.
+	 */
+	public int internName(TagSymbolTable symbols)
+	{
+		int id = symbols.find(name, nameLength);
+		return id >= 0 ? id : symbols.add(name, nameLength, getName());
+	}
+
+	/**
+	 * Looks up the current tag name in a symbol table without adding it.
+	 *
+	 * @param symbols the table to look the name up in.
+	 * @return the id of the current tag name, or -1 if it is not in the table.
+	 */
+	public int findName(TagSymbolTable symbols)
+	{
+		return symbols.find(name, nameLength);
+	}
+
+	/**
+	 * Turns timing of reads on or off. While on, the time spent refilling the
+	 * read buffer, including any charset decoding, is added up.
+	 *
+	 * @param timed true to time reads.
+	 */
+	public void setTimed(boolean timed)
+	{
+		this.timed = timed;
+	}
+
+	/**
+	 * Returns the time spent refilling the read buffer while timing was on.
+	 *
+	 * @return the time spent reading, in nanoseconds.
+	 */
+	public long getReadNanos()
+	{
+		return readNanos;
+	}
+
+	/**
+	 * Returns how many bytes of input have been read. A
+	 * {@link ReusableFileReader} counts the bytes it decodes, and a
+	 * {@link MappedXMLTokenizer} reads one character per byte; through any other
+	 * reader this is the offset of the current token in characters.
+	 *
+	 * @return the number of bytes read.
+	 */
+	public long getBytesRead()
+	{
+		if (reader instanceof ReusableFileReader)
+		{
+			return ((ReusableFileReader) reader).getBytesRead();
+		}
+		return getOffset();
+	}
+
+	/**
+	 * Returns true if the input ended inside a comment, CDATA section, processing
+	 * instruction, declaration or quoted attribute value. A line that starts with
+	 * a tag does not end any of these, so input split at such a line must not
+	 * have ended inside one.
+	 *
+	 * @return true if the last token was cut off inside markup that runs across
+	 *         lines.
+	 */
+	public boolean isUnterminated()
+	{
+		return unterminated;
+	}
+
+	/**
+	 * Starts over at line 1 of whatever the input gives next, keeping the read
+	 * and name buffers. Used to reuse a tokenizer once its input has been pointed
+	 * at a new file; timing is turned off.
+	 */
+	public void reset()
+	{
+		pos = 0;
+		limit = 0;
+		base = 0;
+		line = 1;
+		lineStart = 0;
+		tokenLine = 0;
+		tokenColumn = 0;
+		tokenOffset = 0;
+		nameLength = 0;
+		timed = false;
+		readNanos = 0;
+		unterminated = false;
+	}
+
+	/**
+	 * Closes the underlying input.
+	 *
+	 * @throws IOException if the input cannot be closed.
+	 */
+	public void close() throws IOException
+	{
+		if (reader != null)
+		{
+			reader.close();
+		}
+	}
+
+	/**
+	 * Refills the read buffer. Subclasses reading from something other than a
+	 * Reader override this method and fill {@link #buf} starting at index 0.
+	 *
+	 * @return the number of characters now in the buffer, or -1 at end of input.
+	 * @throws IOException if the underlying input cannot be read.
+	 */
+	protected int fill() throws IOException
+	{
+		return reader.read(buf, 0, buf.length);
+	}
+
+	/**
+	 * Reads an opening or self-closing tag whose first name character has already
+	 * been consumed. Quoted attribute values may contain any character.
+	 */
+	private int readStartTag() throws IOException
+	{
+		int c = readName();
+		boolean slash = false;
+		while (c != -1)
+		{
+			if (c == '>')
+			{
+				return slash ? EMPTY_TAG : START_TAG;
+			}
+			if (c == '<')
+			{
+				unread();
+				return invalid("<");
+			}
+			if (c == '"' || c == '\'')
+			{
+				if (!skipTo(c))
+				{
+					break;
+				}
+				slash = false;
+			} else if (!isWhitespace(c))
+			{
+				slash = c == '/';
+			}
+			c = read();
+		}
+		return invalid("<");
+	}
+
+	/**
+	 * Reads a closing tag after its leading <code>&lt;/</code>.
+	 */
+	private int readEndTag() throws IOException
+	{
+		int c = readName();
+		if (nameLength == 0)
+		{
+			if (c == '<')
+			{
+				unread();
+			}
+			return invalid(c == '>' ? "</>" : "</");
+		}
+		while (c != -1 && c != '>')
+		{
+			if (c == '<')
+			{
+				unread();
+				return invalid("</");
+			}
+			c = read();
+		}
+		return c == '>' ? END_TAG : invalid("</");
+	}
+
+	/**
+	 * Reads a comment, CDATA section or declaration after its leading
+	 * <code>&lt;!</code>.
+	 */
+	private int readDeclaration() throws IOException
+	{
+		int c = read();
+		if (c == '-')
+		{
+			return read() == '-' && skipPast('-', 2) ? COMMENT : invalid("<!--");
+		}
+		if (c == '[')
+		{
+			// <![CDATA[ ... ]]>
+			c = read();
+			while (c != -1 && c != '[')
+			{
+				c = read();
+			}
+			if (c == -1)
+			{
+				unterminated = true;
+			}
+			return c != -1 && skipPast(']', 2) ? TEXT : invalid("<![");
+		}
+		int depth = 0;
+		while (c != -1)
+		{
+			if (c == '[')
+			{
+				depth++;
+			} else if (c == ']')
+			{
+				depth--;
+			} else if (c == '"' || c == '\'')
+			{
+				if (!skipTo(c))
+				{
+					break;
+				}
+			} else if (c == '>' && depth <= 0)
+			{
+				return DECLARATION;
+			}
+			c = read();
+		}
+		unterminated = true;
+		return invalid("<!");
+	}
+
+	/**
+	 * Reads character data up to, but not including, the next '&lt;' or '&gt;'.
+	 */
+	private int readText() throws IOException
+	{
+		int c = read();
+		while (c != -1)
+		{
+			if (c == '<' || c == '>')
+			{
+				unread();
+				break;
+			}
+			c = read();
+		}
+		return TEXT;
+	}
+
+	/**
+	 * Reads name characters into the name buffer and returns the first character
+	 * that ends the name.
+	 */
+	private int readName() throws IOException
+	{
+		int c = read();
+		while (c != -1 && c != '>' && c != '/' && c != '<' && !isWhitespace(c))
+		{
+			appendName((char) c);
+			c = read();
+		}
+		return c;
+	}
+
+	/**
+	 * Skips characters until the given character has been consumed.
+	 */
+	private boolean skipTo(int target) throws IOException
+	{
+		int c = read();
+		while (c != -1 && c != target)
+		{
+			c = read();
+		}
+		if (c == -1)
+		{
+			unterminated = true;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Skips characters until at least <code>count</code> consecutive
+	 * <code>mark</code> characters followed by '&gt;' have been consumed.
+	 */
+	private boolean skipPast(int mark, int count) throws IOException
+	{
+		int run = 0;
+		int c = read();
+		while (c != -1)
+		{
+			if (c == '>' && run >= count)
+			{
+				return true;
+			}
+			run = c == mark ? run + 1 : 0;
+			c = read();
+		}
+		unterminated = true;
+		return false;
+	}
+
+	/**
+	 * Records malformed markup by placing the given prefix in front of whatever
+	 * name has been read so far.
+	 */
+	private int invalid(String prefix)
+	{
+		int length = prefix.length();
+		ensureNameCapacity(nameLength + length);
+		System.arraycopy(name, 0, name, length, nameLength);
+		prefix.getChars(0, length, name, 0);
+		nameLength += length;
+		return INVALID;
+	}
+
+	private void appendName(char c)
+	{
+		ensureNameCapacity(nameLength + 1);
+		name[nameLength++] = c;
+	}
+
+	private void ensureNameCapacity(int capacity)
+	{
+		if (capacity > name.length)
+		{
+			name = Arrays.copyOf(name, Math.max(capacity, name.length * 2));
+		}
+	}
+
+	/**
+	 * Returns the next character, or -1 at end of input, keeping the line count
+	 * up to date.
+	 */
+	private int read() throws IOException
+	{
+		if (pos >= limit && !refill())
+		{
+			return -1;
+		}
+		char c = buf[pos++];
+		if (c == '\n')
+		{
+			line++;
+			lineStart = base + pos;
+		}
+		return c;
+	}
+
+	/**
+	 * Moves past the buffered characters and fills the buffer again, timing the
+	 * fill if asked to. Kept out of read() so that read() stays small enough to
+	 * inline.
+	 *
+	 * @return false at the end of input.
+	 */
+	private boolean refill() throws IOException
+	{
+		base += limit;
+		pos = 0;
+		limit = 0;
+		long start = timed ? System.nanoTime() : 0;
+		int count = fill();
+		if (timed)
+		{
+			readNanos += System.nanoTime() - start;
+		}
+		if (count <= 0)
+		{
+			return false;
+		}
+		limit = count;
+		return true;
+	}
+
+	/**
+	 * Steps back over the last character read. Only used for '&lt;' and '&gt;',
+	 * which never change the line count, and always directly after a read.
+	 */
+	private void unread()
+	{
+		pos--;
+	}
+
+	private static boolean isWhitespace(int c)
+	{
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+	}
+}
@@ -0,0 +1,29 @@
+package utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This interface provides a mono-directional iterator over a collection of
+ * <code>long</code> values. It works like {@link Iterator} but returns the
+ * primitive value, so walking a primitive collection does not box every
+ * element into a <code>Long</code>.
+ */
+public interface LongIterator
+{
+	/**
+	 * Returns <code>true</code> if the iteration has more elements. (In other
+	 * words, returns <code>true</code> if <code>next()</code> would return an
+	 * element rather than throwing an exception.)
+	 * 
+	 * @return <code>true</code> if the iterator has more elements.
+	 */
+	public boolean hasNext();
+
+	/**
+	 * Returns the next element in the iteration.
+	 * 
+	 * @return The next element in the iteration.
+	 * @throws NoSuchElementException If the iteration has no more elements.
+	 */
+	public long next() throws NoSuchElementException;
+}
@@ -0,0 +1,41 @@
+package utilities;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface converts elements to and from fixed-size binary records, so
+ * that a data structure can keep its elements in a byte buffer instead of as
+ * objects. Every record written by a codec takes exactly
+ * {@link #recordSize()} bytes.
+ *
+ * @param <E> The type of element this codec converts.
+ */
+public interface RecordCodec<E>
+{
+	/**
+	 * Returns the number of bytes every record takes.
+	 * 
+	 * @return The size of a record in bytes.
+	 */
+	public int recordSize();
+
+	/**
+	 * Writes an element as a record starting at the given position of a buffer.
+	 * The buffer's position and limit are not changed.
+	 * 
+	 * @param element The element to write.
+	 * @param buffer  The buffer to write into.
+	 * @param offset  The position of the first byte of the record.
+	 */
+	public void write( E element, ByteBuffer buffer, int offset );
+
+	/**
+	 * Reads the record starting at the given position of a buffer back into an
+	 * element. The buffer's position and limit are not changed.
+	 * 
+	 * @param buffer The buffer to read from.
+	 * @param offset The position of the first byte of the record.
+	 * @return The element the record holds.
+	 */
+	public E read( ByteBuffer buffer, int offset );
+}
@@ -1299,4 +1299,176 @@ public class ArrayListTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
-}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyArrayList#MyArrayList(int)}
+	 * to hold the given number of items without growing.
+	 */
+	@Test
+	public void testConstructor_Capacity()
+	{
+		MyArrayList<Integer> sized = new MyArrayList<>( 100 );
+		assertEquals( "Failed to size the list.", 100, sized.capacity() );
+		for( int i = 0; i < 100; i++ )
+		{
+			sized.add( i );
+		}
+		assertEquals( "Grew before the capacity was reached.", 100, sized.capacity() );
+		sized.add( one );
+		assertEquals( "Failed to double the capacity.", 200, sized.capacity() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyArrayList#MyArrayList(int)}
+	 * to grow from an empty array.
+	 */
+	@Test
+	public void testConstructor_ZeroCapacity()
+	{
+		MyArrayList<Integer> empty = new MyArrayList<>( 0 );
+		empty.add( one );
+		empty.add( two );
+		assertEquals( "Failed to add items.", 2, empty.size() );
+		assertEquals( "Failed to get item.", two, empty.get( 1 ) );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyArrayList#MyArrayList(int, double)}
+	 * to grow by the given factor and reject a factor of 1 or less.
+	 */
+	@Test
+	public void testConstructor_GrowthFactor()
+	{
+		MyArrayList<Integer> slow = new MyArrayList<>( 10, 1.5 );
+		for( int i = 0; i < 11; i++ )
+		{
+			slow.add( i );
+		}
+		assertEquals( "Failed to grow by the factor.", 15, slow.capacity() );
+		try
+		{
+			new MyArrayList<Integer>( 10, 1.0 );
+			fail( "Accepted a growth factor of 1." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyArrayList#ensureCapacity(int)}
+	 * to grow once to the requested capacity and never shrink.
+	 */
+	@Test
+	public void testEnsureCapacity()
+	{
+		myList.ensureCapacity( 1000 );
+		assertEquals( "Failed to grow to the requested capacity.", 1000, myList.capacity() );
+		myList.ensureCapacity( 5 );
+		assertEquals( "Shrank the list.", 1000, myList.capacity() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyArrayList#trimToSize()}
+	 * to shrink the array to the items and keep them.
+	 */
+	@Test
+	public void testTrimToSize()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.trimToSize();
+		assertEquals( "Failed to trim the array.", 3, myList.capacity() );
+		assertArrayEquals( "Failed to keep items.", new Object[] { one, two, three }, myList.toArray() );
+		myList.add( four );
+		assertEquals( "Failed to add after trimming.", four, myList.get( 3 ) );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyArrayList#clear(boolean)}
+	 * to keep the grown array when asked and go back to 10 otherwise.
+	 */
+	@Test
+	public void testClear_RetainArray()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		int grown = myList.capacity();
+		myList.clear( true );
+		assertTrue( "Failed to clear the list.", myList.isEmpty() );
+		assertEquals( "Failed to keep the array.", grown, myList.capacity() );
+		assertFalse( "Failed to remove items.", myList.contains( 5 ) );
+		myList.add( one );
+		assertEquals( "Failed to add after clearing.", one, myList.get( 0 ) );
+		myList.clear( false );
+		assertEquals( "Failed to reset the array.", 10, myList.capacity() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyArrayList#addAll(utilities.ListADT)}
+	 * to add the list to itself, doubling its items.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.addAll( myList );
+		assertArrayEquals( "Failed to add the list to itself.",
+				new Object[] { one, two, three, one, two, three }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyArrayList#addAll(utilities.ListADT)}
+	 * to copy a large list in one go and keep adding after it.
+	 */
+	@Test
+	public void testAddAll_Large()
+	{
+		MyDLL<Integer> source = new MyDLL<>();
+		for( int i = 0; i < 1000; i++ )
+		{
+			source.add( i );
+		}
+		myList.add( -1 );
+		myList.addAll( source );
+		myList.add( 1000 );
+		assertEquals( "Failed to update size.", 1002, myList.size() );
+		for( int i = 0; i < myList.size(); i++ )
+		{
+			assertEquals( "Failed to add item to the correct position.", i - 1, (int) myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyArrayList#addAll(utilities.ListADT)}
+	 * to reject a list holding a null without adding any of it.
+	 */
+	@Test
+	public void testAddAll_NullElement()
+	{
+		myList.add( one );
+		try
+		{
+			myList.addAll( new NullHoldingList() );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertArrayEquals( "Failed to leave the list unchanged.", new Object[] { one }, myList.toArray() );
+		}
+	}}
@@ -0,0 +1,199 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.BatchValidator;
+import implementations.Parser;
+
+/**
+ * Class Description:
+ * Test for the BatchValidator, checking that reports come out in the order the
+ * files were collected however the workers finish, that a file which cannot be
+ * read does not hold up the rest, and which files a glob collects.
+ */
+
+public class BatchValidatorTest
+{
+	// Attributes
+	private static final int FILES = 12;
+	private Path directory;
+
+	/**
+	 * Creates a temporary directory before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		directory = Files.createTempDirectory( "batch" );
+	}
+
+	/**
+	 * Deletes the temporary directory and its files after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		delete( directory.toFile() );
+		directory = null;
+	}
+
+	/**
+	 * Test method for {@link appDomain.BatchValidator#run(java.io.PrintStream)} to
+	 * print every report in the order the files were added, although the first
+	 * files are the largest and finish last, with a report for a file that could
+	 * not be read in its place.
+	 */
+	@Test
+	public void testRun_OrderedReports() throws Exception
+	{
+		BatchValidator batch = new BatchValidator( new Parser(), 4, false );
+		for ( int i = 0; i < FILES; i++ )
+		{
+			batch.addFile( write( "file" + i + ".xml", i, ( FILES - i ) * 20000 ).toString() );
+			if ( i == FILES / 2 )
+			{
+				batch.addFile( directory.resolve( "missing.xml" ).toString() );
+			}
+		}
+		assertEquals( "Failed to collect every file.", FILES + 1, batch.size() );
+
+		String[] reports = run( batch ).split( "\nParsing " );
+		assertEquals( "Failed to print a report for every file.", FILES + 2, reports.length );
+		int report = 1;
+		for ( int i = 0; i < FILES; i++ )
+		{
+			assertTrue( "Printed a report out of order.",
+					reports[report].startsWith( directory.resolve( "file" + i + ".xml" ) + " for errors." ) );
+			assertEquals( "Printed the wrong errors.", i,
+					count( reports[report], "Mismatched end tag: </e" + i + ">" ) );
+			report++;
+			if ( i == FILES / 2 )
+			{
+				assertTrue( "Printed a report out of order.",
+						reports[report].startsWith( directory.resolve( "missing.xml" ) + " for errors." ) );
+				assertTrue( "Failed to report a file that could not be read.",
+						reports[report].contains( "Something went wrong with the file." ) );
+				report++;
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link appDomain.BatchValidator#run(java.io.PrintStream)} to
+	 * print a report for every file of a batch in which more files fail than
+	 * there are parsers in the pool, so a failed file never keeps its parser.
+	 */
+	@Test( timeout = 10000 )
+	public void testRun_ManyFailingFiles() throws Exception
+	{
+		BatchValidator batch = new BatchValidator( new Parser(), 1, false );
+		for ( int i = 0; i < 20; i++ )
+		{
+			batch.addFile( directory.resolve( "missing" + i + ".xml" ).toString() );
+		}
+		batch.addFile( write( "last.xml", 1, 1 ).toString() );
+		String output = run( batch );
+		assertEquals( "Failed to report every missing file.", 20, count( output, "Something went wrong" ) );
+		assertEquals( "Failed to validate the file after them.", 1, count( output, "Mismatched end tag" ) );
+	}
+
+	/**
+	 * Test method for {@link appDomain.BatchValidator#addGlob(java.lang.String)}
+	 * to collect, in sorted order, only the files at the depth a pattern without
+	 * <code>**</code> names, and files at any depth for one with it.
+	 */
+	@Test
+	public void testAddGlob_Depth() throws Exception
+	{
+		Files.createDirectories( directory.resolve( "a/b" ) );
+		write( "top.xml", 0, 1 );
+		write( "a/one.xml", 0, 1 );
+		write( "a/two.xml", 0, 1 );
+		write( "a/b/deep.xml", 0, 1 );
+		String root = directory.toString().replace( File.separatorChar, '/' );
+
+		BatchValidator batch = new BatchValidator( new Parser(), 1, false );
+		batch.addGlob( root + "/*.xml" );
+		assertEquals( "Failed to collect only the top files.", 1, batch.size() );
+		batch.addGlob( root + "/*/*.xml" );
+		assertEquals( "Failed to collect only the files one level down.", 3, batch.size() );
+		batch.addGlob( root + "/**.xml" );
+		assertEquals( "Failed to collect the files at every level.", 7, batch.size() );
+
+		String output = run( batch );
+		int one = output.indexOf( "one.xml" );
+		assertTrue( "Failed to collect the files in sorted order.",
+				output.indexOf( "top.xml" ) < one && one < output.indexOf( "two.xml" ) );
+	}
+
+	/**
+	 * Writes a file of the given number of valid lines with a mismatched end
+	 * tag, named for the file's number, on each of the given number of lines
+	 * after them.
+	 */
+	private Path write( String name, int errors, int lines ) throws IOException
+	{
+		Path path = directory.resolve( name );
+		try ( BufferedWriter out = Files.newBufferedWriter( path, StandardCharsets.UTF_8 ) )
+		{
+			out.write( "<root>\n" );
+			for ( int i = 0; i < lines; i++ )
+			{
+				out.write( "\t<item id=\"" + i + "\">value</item>\n" );
+			}
+			String number = name.replaceAll( "\\D", "" );
+			for ( int i = 0; i < errors; i++ )
+			{
+				out.write( "\t</e" + number + ">\n" );
+			}
+			out.write( "</root>\n" );
+		}
+		return path;
+	}
+
+	private static String run( BatchValidator batch ) throws InterruptedException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream( bytes, true );
+		batch.run( out );
+		return new String( bytes.toByteArray(), StandardCharsets.UTF_8 );
+	}
+
+	private static int count( String text, String part )
+	{
+		int count = 0;
+		for ( int at = text.indexOf( part ); at >= 0; at = text.indexOf( part, at + 1 ) )
+		{
+			count++;
+		}
+		return count;
+	}
+
+	private static void delete( File file )
+	{
+		File[] children = file.listFiles();
+		if ( children != null )
+		{
+			for ( File child : children )
+			{
+				delete( child );
+			}
+		}
+		file.delete();
+	}
+}
@@ -0,0 +1,813 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MyBoundedBlockingQueue;
+
+/**
+ * @author kitty, maryam
+ * @version 3.2 Aug. 28, 2024  
+ * Class Description:
+ * Test for the bounded blocking implementation of the QueueADT defined in the CPRG 304
+ * Assignment 2.
+ */
+
+public class BoundedBlockingQueueTest
+{
+	// Attributes
+	private static final int CAPACITY = 500;
+	private MyBoundedBlockingQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+	private Integer four;
+	private Integer five;
+	
+	/**
+	 * Initializes a MyBoundedBlockingQueue instance and five Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyBoundedBlockingQueue<Integer>( CAPACITY );
+		one = 111;
+		two = 222;
+		three = 333;
+		four = 444;
+		five = 555;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+		four = null;
+		five = null;
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#MyBoundedBlockingQueue(int)}
+	 * to create a queue.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		boolean expected = true;
+		boolean actual = queue != null;
+		assertEquals( "Failed to create the queue.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#dequeueAll()}
+	 * to clear the queue.
+	 */
+	@Test
+	public void testDequeueAll_Size()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.dequeueAll();
+		
+		assertEquals( "Failed to clear.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#equals(utilities.QueueADT)}
+	 * to return true when two queues are equal.
+	 */
+	@Test
+	public void testEquals_True()
+	{
+		MyBoundedBlockingQueue<Integer> queue2 = new MyBoundedBlockingQueue<Integer>( CAPACITY );
+		boolean expected = true;
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		queue2.enqueue( one );
+		queue2.enqueue( two );
+		queue2.enqueue( three );
+
+		boolean actual = queue.equals( queue2 );
+		assertEquals( "Failed to return true.", expected, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#equals(utilities.QueueADT)}
+	 * to return false when two queues are not equal.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testEquals_False() throws EmptyQueueException
+	{
+		MyBoundedBlockingQueue<Integer> queue2 = new MyBoundedBlockingQueue<Integer>( CAPACITY );
+		boolean expected = false;
+		queue.enqueue( two );
+		queue.enqueue( one );
+		queue.enqueue( three );
+
+		queue2.enqueue( one );
+		queue2.enqueue( two );
+		queue2.enqueue( three );
+
+		boolean actual = queue.equals( queue2 );
+		assertEquals( "Failed to return false.", expected, actual );
+
+		
+		queue2.dequeue();
+		actual = queue.equals( queue2 );
+		assertEquals( "Failed to return false", expected, actual );
+
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#isEmpty()}
+	 * to return true when queue is empty.
+	 */
+	@Test
+	public void testIsEmpty_True()
+	{
+		boolean expected = true;
+
+		boolean actual = queue.isEmpty();
+		assertEquals( "Failed to return true.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#isEmpty()}
+	 * to return false when the queue is not empty.
+	 */
+	@Test
+	public void testIsEmpty_False()
+	{
+		boolean expected = false;
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		boolean actual = queue.isEmpty();
+		assertEquals( "Failed to return false.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#iterator()} 
+	 * to return and iterator to iterate over the items of the queue from head to tail.
+	 */
+	@Test
+	public void testIterator()
+	{
+		int expected1 = 111;
+		int expected2 = 222;
+		int expected3 = 333;
+		int expected4 = 444;
+		int expected5 = 555;
+
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		Iterator<Integer> it = queue.iterator();
+		
+		assertTrue(it.hasNext());
+		
+		int actual1 = it.next();
+		int actual2 = it.next();
+		int actual3 = it.next();
+		int actual4 = it.next();
+		int actual5 = it.next();
+
+		assertFalse(it.hasNext());
+		
+		assertEquals( "Failed to return item at position.", expected1, actual1 );
+		assertEquals( "Failed to return item at position.", expected2, actual2 );
+		assertEquals( "Failed to return item at position.", expected3, actual3 );
+		assertEquals( "Failed to return item at position.", expected4, actual4 );
+		assertEquals( "Failed to return item at position.", expected5, actual5 );
+		
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#iterator()} 
+	 * to return and iterator when the queue is empty.
+	 */
+	@Test
+	public void testIterator_EmptyQ()
+	{
+		Iterator<Integer> it = queue.iterator();
+		
+		assertFalse(it.hasNext());
+		
+		try
+		{
+			it.next();
+			fail("Failed to throw NoSuchElementException.");
+		}
+		catch(NoSuchElementException e)
+		{
+			assertTrue(true);
+		}
+
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#peek()}
+	 * to return the first item in the queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testPeek_First() throws EmptyQueueException
+	{
+		int expected1 = 111;
+
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		int actual1 = queue.peek();
+		assertEquals( "Failed to return the item.", expected1, actual1 );
+		assertEquals( "Failed to maintain size.", 5, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#peek()}
+	 * to throw EmptyQueueException when queue is empty.
+	 */
+	@Test
+	public void testPeek_Empty()
+	{
+		try
+		{
+			queue.peek();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain size.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#dequeue()}
+	 * to remove the first item in the queue.
+	 * 
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeue_Front() throws EmptyQueueException
+	{
+		int expected1 = 111;
+
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		int actual1 = queue.dequeue();
+		assertEquals( "Failed to remove the item.", expected1, actual1 );
+		assertEquals( "Failed to update size.", 4, queue.size() );
+		
+		expected1 = 222;
+		actual1 = queue.peek();
+		
+		assertEquals( "Failed to remove the item.", expected1, actual1 );
+		
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#dequeue()}
+	 * to throw EmptyQueueException when removing from an empty queue.
+	 */
+	@Test
+	public void testDequeue_Empty()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain size.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#enqueue(java.lang.Object)}.
+	 * to enqueue multiple items to the queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueue() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		int actual = queue.peek();
+		assertEquals( "Failed to enqueueed the correct element", 111, actual );
+		assertEquals( "Failed to update size", 1, queue.size() );
+
+		queue.enqueue( two );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 2, queue.size() );
+
+		queue.enqueue( three );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 3, queue.size() );
+
+		queue.enqueue( four );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 4, queue.size() );
+
+		queue.enqueue( five );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 5, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedBlockingQueue#enqueue(java.lang.Object)}
+	 * to throw a NullPointerException when a null is passed.
+	 */
+	@Test
+	public void testEnqueue_NullPointerException()
+	{
+		Integer empty = null;
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		try
+		{
+			queue.enqueue( empty );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain queue size.", 3, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link utilities.QueueADT#size()}
+	 * to return the size of the queue when the queue has one item.
+	 */
+	@Test
+	public void testSize_AddOneToEmpty()
+	{
+		queue.enqueue( one );
+		assertEquals( "Failed to update queue size.", 1, queue.size() );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link utilities.QueueADT#size()}
+	 * to return the size of the queue when the queue has multiple items.
+	 */
+	@Test
+	public void testSize_AddMany()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+		assertEquals( "Failed to update queue size.", 5, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#toArray()}
+	 * to return an Object array storing all items in the queue from head to first.
+	 */
+	@Test
+	public void testToArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		Integer[] expectedArray = new Integer[3];
+		
+		expectedArray[0] = one;
+		expectedArray[1] = two;
+		expectedArray[2] = three;
+
+		Object[] actualArray = queue.toArray();
+		assertArrayEquals( "Failed to convert queue to array.", expectedArray, actualArray );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#toArray(E[])}
+	 * to return an array storing all items in the queue from head to first when the array passed has sufficient length.
+	 */
+	@Test
+	public void testToArrayEArray_SufficientArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+	
+		Object[] expectedArray = new Integer[3];
+		
+		expectedArray[0] = one;
+		expectedArray[1] = two;
+		expectedArray[2] = three;
+		
+		Integer[] actualArray = new Integer[3];;
+		actualArray = queue.toArray( actualArray );
+		assertArrayEquals( "Failed to convert queue to array.", expectedArray, actualArray );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#toArray(E[])}
+	 * to return an array storing all items in the queue from head to first when the array passed has insufficient length.
+	 */
+	@Test
+	public void testToArrayEArray_InsufficientArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+	
+		Object[] expectedArray = new Integer[3];
+		
+		expectedArray[0] = one;
+		expectedArray[1] = two;
+		expectedArray[2] = three;
+		
+		Integer[] actualArray = new Integer[2];;
+		actualArray = queue.toArray( actualArray );
+		assertArrayEquals( "Failed to convert queue to array.", expectedArray, actualArray );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedBlockingQueue#toArray(E[])}
+	 * to throw NullPointerException when a null is passed.
+	 */@Test
+	public void testToArrayNullArray()
+	{
+		Integer[] returnArray = null;
+		try 
+		{
+			returnArray = queue.toArray(returnArray);
+			fail("Failed to throw NullPointerException.");
+		} 
+		catch (NullPointerException e) 
+		{
+			assertTrue(true);
+		}
+	}
+	 
+	 /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedBlockingQueue#isFull()}
+	  * to return true only once the capacity is reached.
+	  */@Test
+		public void testIsFull()
+		{
+			assertFalse(queue.isFull());
+			
+			for( int i = 0; i < CAPACITY - 1; i++ )
+			{
+				queue.enqueue( i );
+			}
+	
+			assertFalse(queue.isFull());
+			queue.enqueue( CAPACITY );
+			assertTrue(queue.isFull());
+		} 
+	
+	 /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedBlockingQueue#contains(java.lang.Object)}
+	  * to return true when item is found.
+	  */@Test
+		public void testContains_Found()
+		{
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			assertTrue( queue.contains( one ) );
+			assertTrue( queue.contains( two ) );
+			assertTrue( queue.contains( three ) );
+			
+		} 
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedBlockingQueue#contains(java.lang.Object)}
+	  * to return true when item is not found.
+	  */@Test
+		public void testContains_NotFound()
+		{
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			assertFalse( queue.contains( four ) );
+			assertFalse( queue.contains( five ) );
+			
+		} 
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedBlockingQueue#contains(java.lang.Object)}
+	  * to throw NullPointerException when null is passed.
+	  */@Test
+		public void testContains_NullPointerException()
+		{
+		  	try
+		  	{
+		  		queue.contains( null );
+		  		fail("Failed to throw NullPointerException.");
+		  	}
+		  	catch(NullPointerException e)
+		  	{
+		  		assertTrue(true);
+		  	}
+		  	
+			assertFalse( queue.contains( five ) );
+			
+		} 
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedBlockingQueue#search(java.lang.Object)}
+	  * to return the index of the item when the item exists.
+	  */@Test
+		public void testSearch_Found()
+		{
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			int expectedIndex = 1;
+			int actualIndex = queue.search( one ); 
+			
+			assertEquals("Failed to find item", expectedIndex, actualIndex );
+			
+			expectedIndex = 2;
+			actualIndex = queue.search( two ); 
+			assertEquals("Failed to find item", expectedIndex, actualIndex );
+			
+			expectedIndex = 3;
+			actualIndex = queue.search( three ); 
+			assertEquals("Failed to find item", expectedIndex, actualIndex );
+			
+		} 
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedBlockingQueue#search(java.lang.Object)}
+	  * to return the index of the item when the item doesn't exist.
+	  */@Test
+		public void testSearch_NotFound()
+		{
+			int expectedIndex = -1;
+			int actualIndex = queue.search( one ); 
+			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
+			
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			actualIndex = queue.search( five ); 
+			
+			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
+		}
+
+	  /**
+	  * Test method for
+	  * {@link implementations.MyBoundedBlockingQueue#enqueue(java.lang.Object)}
+	  * to keep the order of items when the head and tail wrap around the array.
+	  * @throws EmptyQueueException
+	  */@Test
+		public void testEnqueue_WrapAround() throws EmptyQueueException
+		{
+			for( int i = 0; i < 12; i++ )
+			{
+				queue.enqueue( i );
+			}
+			for( int i = 0; i < 10; i++ )
+			{
+				assertEquals( "Failed to dequeue in order.", i, (int) queue.dequeue() );
+			}
+			for( int i = 12; i < 24; i++ )
+			{
+				queue.enqueue( i );
+			}
+
+			assertEquals( "Failed to update queue size.", 14, queue.size() );
+			assertEquals( "Failed to find item after wrapping.", 3, queue.search( 12 ) );
+			for( int i = 10; i < 24; i++ )
+			{
+				assertEquals( "Failed to dequeue in order after wrapping.", i, (int) queue.dequeue() );
+			}
+			assertTrue( queue.isEmpty() );
+		}
+
+	  /**
+	  * Test method for
+	  * {@link implementations.MyBoundedBlockingQueue#toArray()}
+	  * to return items front first after the queue has wrapped.
+	  * @throws EmptyQueueException
+	  */@Test
+		public void testToArray_AfterWrapping() throws EmptyQueueException
+		{
+			Integer[] expectedArray = new Integer[100];
+			for( int i = 0; i < 8; i++ )
+			{
+				queue.enqueue( -1 );
+				queue.dequeue();
+			}
+			for( int i = 0; i < 100; i++ )
+			{
+				queue.enqueue( i );
+				expectedArray[i] = i;
+			}
+
+			assertArrayEquals( "Failed to convert queue to array.", expectedArray, queue.toArray() );
+			assertArrayEquals( "Failed to convert queue to array.", expectedArray, queue.toArray( new Integer[0] ) );
+		}
+
+	  /**
+	  * Test method for
+	  * {@link implementations.MyBoundedBlockingQueue#enqueue(java.lang.Object)}
+	  * to throw when the queue is full and accept items again after a dequeue.
+	  * @throws EmptyQueueException
+	  */@Test
+		public void testEnqueue_Full() throws EmptyQueueException
+		{
+			for( int i = 0; i < CAPACITY; i++ )
+			{
+				queue.enqueue( i );
+			}
+			try
+			{
+				queue.enqueue( one );
+				fail( "Enqueued onto a full queue." );
+			}
+			catch( IllegalStateException e )
+			{
+				assertEquals( "Failed to keep the size.", CAPACITY, queue.size() );
+			}
+			queue.dequeue();
+			queue.enqueue( one );
+			assertEquals( "Failed to enqueue after a dequeue.", one, queue.toArray()[CAPACITY - 1] );
+		}
+
+	  /**
+	  * Test method for
+	  * {@link implementations.MyBoundedBlockingQueue#put(java.lang.Object)}
+	  * to wait for room until a consumer takes an item.
+	  * @throws InterruptedException
+	  */@Test( timeout = 5000 )
+		public void testPut_WaitsForRoom() throws InterruptedException
+		{
+			MyBoundedBlockingQueue<Integer> small = new MyBoundedBlockingQueue<Integer>( 1 );
+			small.put( one );
+			Thread producer = new Thread( () -> {
+				try
+				{
+					small.put( two );
+				}
+				catch( InterruptedException e )
+				{
+					// the test fails below when two never arrives
+				}
+			} );
+			producer.start();
+			producer.join( 100 );
+			assertTrue( "Failed to wait for room.", producer.isAlive() );
+			assertEquals( "Failed to take the first item.", one, small.take() );
+			producer.join();
+			assertEquals( "Failed to put after room was made.", two, small.take() );
+		}
+
+	  /**
+	  * Test method for
+	  * {@link implementations.MyBoundedBlockingQueue#take()}
+	  * to wait until a producer puts an item.
+	  * @throws InterruptedException
+	  */@Test( timeout = 5000 )
+		public void testTake_WaitsForItem() throws InterruptedException
+		{
+			Thread producer = new Thread( () -> {
+				try
+				{
+					Thread.sleep( 50 );
+					queue.put( three );
+				}
+				catch( InterruptedException e )
+				{
+					// the test fails below when three never arrives
+				}
+			} );
+			producer.start();
+			assertEquals( "Failed to take the item put later.", three, queue.take() );
+			producer.join();
+		}
+
+	  /**
+	  * Test method for
+	  * {@link implementations.MyBoundedBlockingQueue#offer(java.lang.Object, long, TimeUnit)}
+	  * to give up when no room is made in time.
+	  * @throws InterruptedException
+	  */@Test
+		public void testOffer_TimesOut() throws InterruptedException
+		{
+			MyBoundedBlockingQueue<Integer> small = new MyBoundedBlockingQueue<Integer>( 1 );
+			assertTrue( "Failed to offer into an empty queue.", small.offer( one, 0, TimeUnit.MILLISECONDS ) );
+			assertFalse( "Offered into a full queue.", small.offer( two, 20, TimeUnit.MILLISECONDS ) );
+			assertEquals( "Failed to keep the size.", 1, small.size() );
+		}
+
+	  /**
+	  * Test method for
+	  * {@link implementations.MyBoundedBlockingQueue#poll(long, TimeUnit)}
+	  * to return null when no item arrives in time.
+	  * @throws InterruptedException
+	  */@Test
+		public void testPoll_TimesOut() throws InterruptedException
+		{
+			assertNull( "Polled from an empty queue.", queue.poll( 20, TimeUnit.MILLISECONDS ) );
+			queue.enqueue( four );
+			assertEquals( "Failed to poll an item.", four, queue.poll( 0, TimeUnit.MILLISECONDS ) );
+		}
+
+	  /**
+	  * Test method for
+	  * {@link implementations.MyBoundedBlockingQueue#put(java.lang.Object)} and
+	  * {@link implementations.MyBoundedBlockingQueue#take()}
+	  * to hand many items in order through a small queue.
+	  * @throws InterruptedException
+	  */@Test( timeout = 5000 )
+		public void testPutTake_Pipeline() throws InterruptedException
+		{
+			final int count = 10000;
+			MyBoundedBlockingQueue<Integer> small = new MyBoundedBlockingQueue<Integer>( 8 );
+			Thread producer = new Thread( () -> {
+				try
+				{
+					for( int i = 0; i < count; i++ )
+					{
+						small.put( i );
+					}
+				}
+				catch( InterruptedException e )
+				{
+					// the test fails below when items are missing
+				}
+			} );
+			producer.start();
+			for( int i = 0; i < count; i++ )
+			{
+				assertEquals( "Failed to take items in order.", i, (int) small.take() );
+				assertTrue( "Exceeded the capacity.", small.size() <= 8 );
+			}
+			producer.join();
+		}
+}
@@ -2,7 +2,10 @@ package unitTests;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
@@ -1325,4 +1328,145 @@ public class DLLTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
-}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyDLL#get(int)}
+	 * to return the right items when indexed access moves both ways
+	 * between inserts and removals.
+	 */
+	@Test
+	public void testGet_AfterInsertAndRemove()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to get item.", 60, (int) myList.get( 60 ) );
+		myList.add( 10, -1 );
+		assertEquals( "Failed to get item after insert.", 60, (int) myList.get( 61 ) );
+		myList.remove( 0 );
+		assertEquals( "Failed to get item after removal.", 60, (int) myList.get( 60 ) );
+		myList.remove( Integer.valueOf( 60 ) );
+		assertEquals( "Failed to get item after removal.", 61, (int) myList.get( 60 ) );
+		assertEquals( "Failed to get item.", 59, (int) myList.get( 59 ) );
+		assertEquals( "Failed to get item near tail.", 99, (int) myList.get( 98 ) );
+		assertEquals( "Failed to get item.", -1, (int) myList.get( 9 ) );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyDLL#remove(int)}
+	 * to keep indexed access right while removing repeatedly around one spot
+	 * in the middle of the list and at its end.
+	 */
+	@Test
+	public void testRemove_RepeatedMidList()
+	{
+		List<Integer> expected = new ArrayList<>();
+		for( int i = 0; i < 2000; i++ )
+		{
+			myList.add( i );
+			expected.add( i );
+		}
+		Random random = new Random( 7 );
+		int spot = 1000;
+		while( expected.size() > 1 )
+		{
+			spot = Math.max( 0, Math.min( expected.size() - 1, spot + random.nextInt( 5 ) - 2 ) );
+			assertEquals( "Failed to remove the right item.", expected.remove( spot ), myList.remove( spot ) );
+			int probe = Math.max( 0, Math.min( expected.size() - 1, spot + random.nextInt( 3 ) - 1 ) );
+			assertEquals( "Failed to get item after removal.", expected.get( probe ), myList.get( probe ) );
+			if( spot >= expected.size() - 1 && expected.size() > 1 )
+			{
+				// remove from the end, where the cursor has to step back
+				int last = expected.size() - 1;
+				assertEquals( "Failed to remove the last item.", expected.remove( last ), myList.remove( last ) );
+				assertEquals( "Failed to get the new last item.", expected.get( last - 1 ), myList.get( last - 1 ) );
+			}
+		}
+		assertEquals( "Failed to keep the right size.", expected.size(), myList.size() );
+		assertEquals( "Failed to keep the last item.", expected.get( 0 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyDLL#set(int, java.lang.Object)}
+	 * to replace every item when walking the list by index from either end.
+	 */
+	@Test
+	public void testSet_SequentialBothWays()
+	{
+		for( int i = 0; i < 50; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 50; i++ )
+		{
+			myList.set( i, myList.get( i ) * 2 );
+		}
+		for( int i = 49; i >= 0; i-- )
+		{
+			assertEquals( "Failed to set item.", i * 2, (int) myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyDLL#addAll(utilities.ListADT)}
+	 * to add the list to itself, doubling its items.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.addAll( myList );
+		assertArrayEquals( "Failed to add the list to itself.",
+				new Object[] { one, two, three, one, two, three }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyDLL#addAll(utilities.ListADT)}
+	 * to copy a large list in one go and keep adding after it.
+	 */
+	@Test
+	public void testAddAll_Large()
+	{
+		MyArrayList<Integer> source = new MyArrayList<>();
+		for( int i = 0; i < 1000; i++ )
+		{
+			source.add( i );
+		}
+		myList.add( -1 );
+		myList.addAll( source );
+		myList.add( 1000 );
+		assertEquals( "Failed to update size.", 1002, myList.size() );
+		for( int i = 0; i < myList.size(); i++ )
+		{
+			assertEquals( "Failed to add item to the correct position.", i - 1, (int) myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyDLL#addAll(utilities.ListADT)}
+	 * to reject a list holding a null without adding any of it.
+	 */
+	@Test
+	public void testAddAll_NullElement()
+	{
+		myList.add( one );
+		try
+		{
+			myList.addAll( new NullHoldingList() );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertArrayEquals( "Failed to leave the list unchanged.", new Object[] { one }, myList.toArray() );
+		}
+	}}
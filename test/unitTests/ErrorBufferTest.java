@@ -0,0 +1,177 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.ErrorBuffer;
+import implementations.MyQueue;
+import implementations.TagSymbolTable;
+import implementations.ValidationError;
+
+/**
+ * Class Description:
+ * Test for the ErrorBuffer, checking that every column of an error is stored
+ * and read back, that messages are built from the tag ids only when read, and
+ * that names kept by the buffer stay out of the symbol table.
+ */
+
+public class ErrorBufferTest
+{
+	// Attributes
+	private static final int MANY = 1000;
+	private TagSymbolTable symbols;
+	private ErrorBuffer errors;
+	private int a;
+	private int b;
+
+	/**
+	 * Creates an empty buffer over a table holding two tag names before each
+	 * test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		symbols = new TagSymbolTable();
+		a = symbols.intern( "a" );
+		b = symbols.intern( "b" );
+		errors = new ErrorBuffer( symbols );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		symbols = null;
+		errors = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ErrorBuffer#add(int, int, int, long, int, int)} to
+	 * store each column of many errors and read every one back at its position.
+	 */
+	@Test
+	public void testAdd_Columns()
+	{
+		assertTrue( "New buffer is not empty.", errors.isEmpty() );
+		for ( int i = 0; i < MANY; i++ )
+		{
+			errors.add( 1 + i % 6, i + 1, 2 * i + 1, 100L * i + ( 1L << 32 ), i % 2 == 0 ? a : b, i % 3 == 0 ? b : -1 );
+		}
+		assertEquals( "Failed to count the errors.", MANY, errors.size() );
+		for ( int i = 0; i < MANY; i++ )
+		{
+			assertEquals( "Failed to keep the kind.", 1 + i % 6, errors.getKind( i ) );
+			assertEquals( "Failed to keep the line.", i + 1, errors.getLine( i ) );
+			assertEquals( "Failed to keep the column.", 2 * i + 1, errors.getColumn( i ) );
+			assertEquals( "Failed to keep an offset past 4 GB.", 100L * i + ( 1L << 32 ), errors.getOffset( i ) );
+			assertEquals( "Failed to keep the tag id.", i % 2 == 0 ? a : b, errors.getTagId( i ) );
+			assertEquals( "Failed to keep the other tag id.", i % 3 == 0 ? b : -1, errors.getOtherTagId( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.ErrorBuffer#getColumn(int)} to throw
+	 * for a position past the last error.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGetColumn_OutOfRange()
+	{
+		errors.add( ValidationError.INVALID_TAG, 1, 1, 0, a, -1 );
+		errors.getColumn( 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.ErrorBuffer#format(int)} and
+	 * {@link implementations.ErrorBuffer#get(int)} to build the message and the
+	 * error object from the stored ids each time an error is read.
+	 */
+	@Test
+	public void testFormat_BuiltWhenRead()
+	{
+		errors.add( ValidationError.IMPROPER_NESTING, 3, 7, 40, a, b );
+		errors.add( ValidationError.UNCLOSED_START_TAG, 0, 0, -1, b, -1 );
+		String message = errors.format( 0 );
+		assertEquals( "Built the wrong message.", "Error at line 3: Improperly nested tags: <a> and </b>", message );
+		assertNotSame( "Kept a message instead of building it when read.", message, errors.format( 0 ) );
+		assertEquals( "Built the wrong message.", "Error: Unclosed start tag: <b>", errors.format( 1 ) );
+
+		ValidationError error = errors.get( 0 );
+		assertEquals( "Failed to give the kind.", ValidationError.IMPROPER_NESTING, error.getKind() );
+		assertEquals( "Failed to give the column.", 7, error.getColumn() );
+		assertEquals( "Failed to give the offset.", 40, error.getOffset() );
+		assertEquals( "Failed to give the tag id.", a, error.getTagId() );
+		assertEquals( "Failed to give the tag name.", "a", error.getTagName() );
+		assertEquals( "Failed to give the other tag name.", "b", error.getOtherTagName() );
+		assertEquals( "Built a different message for the object.", message, error.getMessage() );
+		assertNull( "Gave a name for no tag.", errors.get( 1 ).getOtherTagName() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ErrorBuffer#formatTo(implementations.MyQueue)} to
+	 * add every message to a queue in the order recorded.
+	 */
+	@Test
+	public void testFormatTo() throws EmptyQueueException
+	{
+		errors.add( ValidationError.UNMATCHED_END_TAG, 1, 1, 0, a, -1 );
+		errors.add( ValidationError.MISMATCHED_END_TAG, 2, 5, 9, b, -1 );
+		MyQueue<String> messages = new MyQueue<String>();
+		errors.formatTo( messages );
+		assertEquals( "Failed to add every message.", 2, messages.size() );
+		assertEquals( "Added a message out of order.", "Error at line 1: Unmatched end tag: </a>", messages.dequeue() );
+		assertEquals( "Added a message out of order.", "Error at line 2: Mismatched end tag: </b>", messages.dequeue() );
+	}
+
+	/**
+	 * Test method for {@link implementations.ErrorBuffer#addName(java.lang.String)}
+	 * to keep names outside the symbol table under ids below -1, read them back
+	 * in messages and objects, and drop them when the buffer is cleared.
+	 */
+	@Test
+	public void testAddName()
+	{
+		int markup = errors.addName( "<x" );
+		int end = errors.addName( "garbage" );
+		assertTrue( "Gave a kept name a symbol id.", markup < -1 && end < -1 );
+		assertNotEquals( "Gave two kept names the same id.", markup, end );
+		errors.add( ValidationError.INVALID_TAG, 4, 2, 30, markup, -1 );
+		errors.add( ValidationError.UNMATCHED_END_TAG, 5, 1, 35, end, -1 );
+		assertEquals( "Added a kept name to the symbol table.", 2, symbols.size() );
+		assertEquals( "Built the wrong message.", "Invalid tag at line 4: <x", errors.format( 0 ) );
+		assertEquals( "Built the wrong message.", "Error at line 5: Unmatched end tag: </garbage>", errors.format( 1 ) );
+		assertEquals( "Gave a kept name a tag id.", -1, errors.get( 1 ).getTagId() );
+		assertEquals( "Failed to give a kept name.", "garbage", errors.get( 1 ).getTagName() );
+
+		errors.clear();
+		assertTrue( "Failed to empty the buffer.", errors.isEmpty() );
+		assertEquals( "Failed to drop the kept names.", markup, errors.addName( "<y" ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.ErrorBuffer#clear()} to remove every
+	 * error and the truncation marks, keeping the buffer usable.
+	 */
+	@Test
+	public void testClear()
+	{
+		errors.add( ValidationError.INVALID_TAG, 1, 1, 0, a, -1 );
+		errors.setTruncated( true );
+		errors.setOmittedUnclosedTags( 3 );
+		errors.clear();
+		assertEquals( "Failed to remove the errors.", 0, errors.size() );
+		assertFalse( "Failed to clear the truncation.", errors.isTruncated() );
+		assertEquals( "Failed to clear the omitted tags.", 0, errors.getOmittedUnclosedTags() );
+		errors.add( ValidationError.UNCLOSED_START_TAG, 0, 0, -1, b, -1 );
+		assertEquals( "Failed to reuse the buffer.", "Error: Unclosed start tag: <b>", errors.format( 0 ) );
+	}
+}
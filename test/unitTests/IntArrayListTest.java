@@ -0,0 +1,240 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.IntArrayList;
+import utilities.IntIterator;
+
+/**
+ * Class Description:
+ * Test for the array-based list of primitive <code>int</code> values.
+ */
+
+public class IntArrayListTest
+{
+	// Attributes
+	private IntArrayList myList;
+
+	/**
+	 * Initializes a new IntArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new IntArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#add(int)}
+	 * to add values past the initial capacity.
+	 */
+	@Test
+	public void testAdd_Growth()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i * 3 );
+		}
+		assertEquals( "Failed to add values.", 100, myList.size() );
+		for( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to get value.", i * 3, myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#add(int, int)}
+	 * to insert values at the front, middle and end.
+	 */
+	@Test
+	public void testAdd_Index()
+	{
+		myList.add( 2 );
+		myList.add( 0, 1 );
+		myList.add( 2, 4 );
+		myList.add( 2, 3 );
+		int[] expected = { 1, 2, 3, 4 };
+		assertArrayEquals( "Failed to insert values.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#add(int, int)}
+	 * to reject an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAdd_IndexOutOfBounds()
+	{
+		myList.add( 1, 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#addAll(implementations.IntArrayList)}
+	 * to append every value of another list.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		IntArrayList other = new IntArrayList();
+		for( int i = 0; i < 30; i++ )
+		{
+			other.add( i );
+		}
+		myList.add( -1 );
+		myList.addAll( other );
+		assertEquals( "Failed to add all values.", 31, myList.size() );
+		assertEquals( "Failed to add all values.", -1, myList.get( 0 ) );
+		assertEquals( "Failed to add all values.", 29, myList.get( 30 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#remove(int)}
+	 * to remove a value by index and shift the rest down.
+	 */
+	@Test
+	public void testRemove_Index()
+	{
+		myList.add( 5 );
+		myList.add( 6 );
+		myList.add( 7 );
+		assertEquals( "Failed to remove value.", 6, myList.remove( 1 ) );
+		int[] expected = { 5, 7 };
+		assertArrayEquals( "Failed to remove value.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#remove(int)}
+	 * to reject an index on an empty list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testRemove_Empty()
+	{
+		myList.remove( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#removeValue(int)}
+	 * to remove the first occurrence of a value.
+	 */
+	@Test
+	public void testRemoveValue()
+	{
+		myList.add( 5 );
+		myList.add( 6 );
+		myList.add( 5 );
+		assertTrue( "Failed to remove value.", myList.removeValue( 5 ) );
+		assertFalse( "Removed a missing value.", myList.removeValue( 9 ) );
+		int[] expected = { 6, 5 };
+		assertArrayEquals( "Failed to remove value.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#set(int, int)}
+	 * to replace a value and return the old one.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( 5 );
+		assertEquals( "Failed to return the old value.", 5, myList.set( 0, 8 ) );
+		assertEquals( "Failed to set value.", 8, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#indexOf(int)} and
+	 * {@link implementations.IntArrayList#contains(int)}.
+	 */
+	@Test
+	public void testIndexOfAndContains()
+	{
+		myList.add( 5 );
+		myList.add( 6 );
+		myList.add( 6 );
+		assertEquals( "Failed to find value.", 1, myList.indexOf( 6 ) );
+		assertEquals( "Found a missing value.", -1, myList.indexOf( 7 ) );
+		assertTrue( "Failed to find value.", myList.contains( 5 ) );
+		assertFalse( "Found a missing value.", myList.contains( 7 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#clear()}
+	 * to empty the list and keep it usable.
+	 */
+	@Test
+	public void testClear()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			myList.add( i );
+		}
+		myList.clear();
+		assertTrue( "Failed to clear the list.", myList.isEmpty() );
+		assertEquals( "Failed to clear the list.", 0, myList.toArray().length );
+		myList.add( 4 );
+		assertEquals( "Failed to add after clearing.", 4, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#toArray(int[])}
+	 * to fill a large enough array and allocate a new one otherwise.
+	 */
+	@Test
+	public void testToArray_Holder()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		int[] large = new int[3];
+		assertSame( "Failed to use the given array.", large, myList.toArray( large ) );
+		int[] small = new int[1];
+		int[] result = myList.toArray( small );
+		assertNotSame( "Failed to allocate a new array.", small, result );
+		int[] expected = { 1, 2 };
+		assertArrayEquals( "Failed to copy values.", expected, result );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#iterator()}
+	 * to return every value in order.
+	 */
+	@Test
+	public void testIterator()
+	{
+		for( int i = 0; i < 15; i++ )
+		{
+			myList.add( i );
+		}
+		IntIterator it = myList.iterator();
+		for( int i = 0; i < 15; i++ )
+		{
+			assertTrue( "Iterator ended early.", it.hasNext() );
+			assertEquals( "Iterator returned wrong value.", i, it.next() );
+		}
+		assertFalse( "Iterator did not end.", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#iterator()}
+	 * to throw once the values run out.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_Exhausted()
+	{
+		myList.iterator().next();
+	}
+}
@@ -0,0 +1,240 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.LongArrayList;
+import utilities.LongIterator;
+
+/**
+ * Class Description:
+ * Test for the array-based list of primitive <code>long</code> values.
+ */
+
+public class LongArrayListTest
+{
+	// Attributes
+	private LongArrayList myList;
+
+	/**
+	 * Initializes a new LongArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new LongArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#add(long)}
+	 * to add values past the initial capacity.
+	 */
+	@Test
+	public void testAdd_Growth()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i * 3L );
+		}
+		assertEquals( "Failed to add values.", 100, myList.size() );
+		for( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to get value.", i * 3L, myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#add(int, long)}
+	 * to insert values at the front, middle and end.
+	 */
+	@Test
+	public void testAdd_Index()
+	{
+		myList.add( 2L );
+		myList.add( 0, 1L );
+		myList.add( 2, 4L );
+		myList.add( 2, 3L );
+		long[] expected = { 1L, 2L, 3L, 4L };
+		assertArrayEquals( "Failed to insert values.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#add(int, long)}
+	 * to reject an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAdd_IndexOutOfBounds()
+	{
+		myList.add( 1, 1L );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#addAll(implementations.LongArrayList)}
+	 * to append every value of another list.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		LongArrayList other = new LongArrayList();
+		for( int i = 0; i < 30; i++ )
+		{
+			other.add( i );
+		}
+		myList.add( -1L );
+		myList.addAll( other );
+		assertEquals( "Failed to add all values.", 31, myList.size() );
+		assertEquals( "Failed to add all values.", -1L, myList.get( 0 ) );
+		assertEquals( "Failed to add all values.", 29L, myList.get( 30 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#remove(int)}
+	 * to remove a value by index and shift the rest down.
+	 */
+	@Test
+	public void testRemove_Index()
+	{
+		myList.add( 5L );
+		myList.add( 6L );
+		myList.add( 7L );
+		assertEquals( "Failed to remove value.", 6L, myList.remove( 1 ) );
+		long[] expected = { 5L, 7L };
+		assertArrayEquals( "Failed to remove value.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#remove(int)}
+	 * to reject an index on an empty list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testRemove_Empty()
+	{
+		myList.remove( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#removeValue(long)}
+	 * to remove the first occurrence of a value.
+	 */
+	@Test
+	public void testRemoveValue()
+	{
+		myList.add( 5L );
+		myList.add( 6L );
+		myList.add( 5L );
+		assertTrue( "Failed to remove value.", myList.removeValue( 5L ) );
+		assertFalse( "Removed a missing value.", myList.removeValue( 9L ) );
+		long[] expected = { 6L, 5L };
+		assertArrayEquals( "Failed to remove value.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#set(int, long)}
+	 * to replace a value and return the old one.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( 5L );
+		assertEquals( "Failed to return the old value.", 5L, myList.set( 0, 8L ) );
+		assertEquals( "Failed to set value.", 8L, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#indexOf(long)} and
+	 * {@link implementations.LongArrayList#contains(long)}.
+	 */
+	@Test
+	public void testIndexOfAndContains()
+	{
+		myList.add( 5L );
+		myList.add( 6L );
+		myList.add( 6L );
+		assertEquals( "Failed to find value.", 1, myList.indexOf( 6L ) );
+		assertEquals( "Found a missing value.", -1, myList.indexOf( 7L ) );
+		assertTrue( "Failed to find value.", myList.contains( 5L ) );
+		assertFalse( "Found a missing value.", myList.contains( 7L ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#clear()}
+	 * to empty the list and keep it usable.
+	 */
+	@Test
+	public void testClear()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			myList.add( i );
+		}
+		myList.clear();
+		assertTrue( "Failed to clear the list.", myList.isEmpty() );
+		assertEquals( "Failed to clear the list.", 0, myList.toArray().length );
+		myList.add( 4L );
+		assertEquals( "Failed to add after clearing.", 4L, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#toArray(long[])}
+	 * to fill a large enough array and allocate a new one otherwise.
+	 */
+	@Test
+	public void testToArray_Holder()
+	{
+		myList.add( 1L );
+		myList.add( 2L );
+		long[] large = new long[3];
+		assertSame( "Failed to use the given array.", large, myList.toArray( large ) );
+		long[] small = new long[1];
+		long[] result = myList.toArray( small );
+		assertNotSame( "Failed to allocate a new array.", small, result );
+		long[] expected = { 1L, 2L };
+		assertArrayEquals( "Failed to copy values.", expected, result );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#iterator()}
+	 * to return every value in order.
+	 */
+	@Test
+	public void testIterator()
+	{
+		for( int i = 0; i < 15; i++ )
+		{
+			myList.add( i );
+		}
+		LongIterator it = myList.iterator();
+		for( int i = 0; i < 15; i++ )
+		{
+			assertTrue( "Iterator ended early.", it.hasNext() );
+			assertEquals( "Iterator returned wrong value.", i, it.next() );
+		}
+		assertFalse( "Iterator did not end.", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#iterator()}
+	 * to throw once the values run out.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_Exhausted()
+	{
+		myList.iterator().next();
+	}
+}
@@ -0,0 +1,49 @@
+package unitTests;
+
+import implementations.MyDLL;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * A list of two items whose second item is null, which the lists themselves
+ * never hold. Shared by the list tests to check that addAll rejects a null
+ * without adding any of the list.
+ */
+
+@SuppressWarnings( "serial" )
+class NullHoldingList extends MyDLL<Integer>
+{
+	@Override
+	public int size()
+	{
+		return 2;
+	}
+
+	@Override
+	public Object[] toArray()
+	{
+		return new Object[] { 2, null };
+	}
+
+	@Override
+	public Iterator<Integer> iterator()
+	{
+		final Object[] items = toArray();
+		return new Iterator<Integer>()
+		{
+			private int current = 0;
+
+			@Override
+			public boolean hasNext()
+			{
+				return current < items.length;
+			}
+
+			@Override
+			public Integer next()
+			{
+				return (Integer) items[current++];
+			}
+		};
+	}
+}
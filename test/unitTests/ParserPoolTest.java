@@ -0,0 +1,174 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.Parser;
+import implementations.ParserPool;
+
+/**
+ * Class Description:
+ * Test for the ParserPool, checking how many parsers are idle as they are taken
+ * and released, that no more can be released than were taken, and that every
+ * pooled parser is reusable with the settings of its template.
+ */
+
+public class ParserPoolTest
+{
+	// Attributes
+	private static final int SIZE = 3;
+	private Parser template;
+	private ParserPool pool;
+
+	/**
+	 * Creates a pool of copies of a parser that stops at the first error before
+	 * each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		template = new Parser();
+		template.setMaxErrors( 1 );
+		pool = new ParserPool( template, SIZE );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		template = null;
+		pool = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ParserPool#ParserPool(implementations.Parser, int)}
+	 * to start with every parser idle.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertEquals( "Failed to hold the parsers asked for.", SIZE, pool.size() );
+		assertEquals( "Failed to start with every parser idle.", SIZE, pool.idle() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ParserPool#ParserPool(implementations.Parser, int)}
+	 * to refuse a pool without parsers.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_Empty()
+	{
+		new ParserPool( template, 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.ParserPool#take()} and
+	 * {@link implementations.ParserPool#release(implementations.Parser)} to count
+	 * one parser less idle for each taken and one more for each released, handing
+	 * out a different parser each time.
+	 */
+	@Test
+	public void testTakeRelease_Accounting() throws InterruptedException
+	{
+		Parser[] taken = new Parser[SIZE];
+		for ( int i = 0; i < SIZE; i++ )
+		{
+			taken[i] = pool.take();
+			assertEquals( "Failed to count a parser taken.", SIZE - i - 1, pool.idle() );
+			for ( int j = 0; j < i; j++ )
+			{
+				assertNotSame( "Handed out a parser already taken.", taken[j], taken[i] );
+			}
+		}
+		pool.release( taken[1] );
+		assertEquals( "Failed to count a parser released.", 1, pool.idle() );
+		assertSame( "Failed to hand out the parser released.", taken[1], pool.take() );
+		for ( Parser parser : taken )
+		{
+			pool.release( parser );
+		}
+		assertEquals( "Failed to count every parser released.", SIZE, pool.idle() );
+		assertEquals( "Changed the size of the pool.", SIZE, pool.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ParserPool#release(implementations.Parser)} to
+	 * refuse a parser when every parser is already idle.
+	 */
+	@Test( expected = IllegalStateException.class )
+	public void testRelease_OverRelease() throws InterruptedException
+	{
+		Parser parser = pool.take();
+		pool.release( parser );
+		pool.release( parser );
+	}
+
+	/**
+	 * Test method for {@link implementations.ParserPool#take()} to wait while no
+	 * parser is idle and return the next one released.
+	 */
+	@Test( timeout = 10000 )
+	public void testTake_WaitsForRelease() throws InterruptedException
+	{
+		Parser[] taken = new Parser[SIZE];
+		for ( int i = 0; i < SIZE; i++ )
+		{
+			taken[i] = pool.take();
+		}
+		Parser[] waited = new Parser[1];
+		Thread waiter = new Thread( () -> {
+			try
+			{
+				waited[0] = pool.take();
+			} catch ( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+		} );
+		waiter.start();
+		waiter.join( 200 );
+		assertTrue( "Took a parser although none was idle.", waiter.isAlive() );
+		pool.release( taken[0] );
+		waiter.join();
+		assertSame( "Failed to hand the waiting thread the parser released.", taken[0], waited[0] );
+		assertEquals( "Failed to count the parser taken by the waiting thread.", 0, pool.idle() );
+	}
+
+	/**
+	 * Test method for {@link implementations.ParserPool#take()} to hand out
+	 * reusable parsers with the settings of the template.
+	 */
+	@Test
+	public void testTake_TemplateSettings() throws InterruptedException, IOException
+	{
+		File file = File.createTempFile( "pool", ".xml" );
+		try
+		{
+			Files.write( file.toPath(), "<a>\n</b>\n</c>\n".getBytes( StandardCharsets.UTF_8 ) );
+			assertEquals( "Template found the wrong number of errors.", 1, template.validate( file.getPath() ).size() );
+			assertFalse( "Made the template reusable.", template.isReusable() );
+			Parser parser = pool.take();
+			assertTrue( "Handed out a parser that is not reusable.", parser.isReusable() );
+			assertEquals( "Failed to copy the error limit.", 1, parser.validate( file.getPath() ).size() );
+			pool.release( parser );
+		} finally
+		{
+			file.delete();
+		}
+	}
+}
@@ -0,0 +1,644 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.ErrorBuffer;
+import implementations.Parser;
+import implementations.ValidationMetrics;
+import implementations.XMLTokenizer;
+
+/**
+ * Class Description:
+ * Test for the Parser, checking that splitting a file into parallel chunks
+ * never changes the errors found, how the error limit marks the errors, and
+ * what the metrics count.
+ */
+
+public class ParserTest
+{
+	// Attributes
+	private static final int LINES = 40000;
+	private static final long RANDOM_SIZE = 9L << 19;
+	private static final int ERROR_LINES = 750;
+	private static final long[] SEEDS = { 1, 2, 3 };
+	private static final int[] PARALLELISMS = { 2, 4, 8 };
+	private static final int[] ERROR_LIMITS = { 1, 5, 100 };
+	private static final int[] DEPTH_LIMITS = { 9, 20, 30 };
+	private File file;
+	private Parser sequential;
+	private Parser parallel;
+
+	/**
+	 * Creates a temporary file and a sequential and a parallel parser before each
+	 * test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		file = File.createTempFile( "parser", ".xml" );
+		sequential = new Parser();
+		parallel = new Parser();
+		parallel.setParallelism( 4 );
+	}
+
+	/**
+	 * Deletes the temporary file after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		file.delete();
+		file = null;
+		sequential = null;
+		parallel = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that commented-out markup spanning a chunk boundary gives no errors.
+	 */
+	@Test
+	public void testValidateParallel_CommentAcrossBoundary() throws IOException
+	{
+		write( "<!--", "-->", null );
+		assertTrue( "Sequential validation found errors.", sequential.validate( file.getPath() ).isEmpty() );
+		assertTrue( "Parallel validation found errors in a comment.", parallel.validate( file.getPath() ).isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that a CDATA section spanning a chunk boundary gives no errors.
+	 */
+	@Test
+	public void testValidateParallel_CDataAcrossBoundary() throws IOException
+	{
+		write( "<![CDATA[", "]]>", null );
+		assertTrue( "Parallel validation found errors in CDATA.", parallel.validate( file.getPath() ).isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that a processing instruction spanning a chunk boundary gives no
+	 * errors.
+	 */
+	@Test
+	public void testValidateParallel_InstructionAcrossBoundary() throws IOException
+	{
+		write( "<?template", "?>", null );
+		assertTrue( "Parallel validation found errors in a processing instruction.",
+				parallel.validate( file.getPath() ).isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that a quoted attribute value spanning a chunk boundary gives no
+	 * errors.
+	 */
+	@Test
+	public void testValidateParallel_AttributeAcrossBoundary() throws IOException
+	{
+		write( "<note text=\"", "\"/>", null );
+		assertTrue( "Parallel validation found errors in an attribute value.",
+				parallel.validate( file.getPath() ).isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that the errors outside a comment spanning a chunk boundary are the
+	 * ones a sequential pass finds, in the same order.
+	 */
+	@Test
+	public void testValidateParallel_ErrorsAroundComment() throws IOException
+	{
+		write( "<!--", "-->", "<broken>" );
+		ErrorBuffer expected = sequential.validate( file.getPath() );
+		ErrorBuffer actual = parallel.validate( file.getPath() );
+		assertFalse( "Sequential validation found no errors.", expected.isEmpty() );
+		assertEquals( "Parallel validation found a different number of errors.", expected.size(), actual.size() );
+		for ( int i = 0; i < expected.size(); i++ )
+		{
+			assertEquals( "Parallel validation found a different error.", expected.format( i ), actual.format( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that every tag on a line is matched, so the errors of
+	 * res/sample2.xml include the crossed tags on lines 8 and 22 and the tag
+	 * left open on line 17.
+	 */
+	@Test
+	public void testValidate_Sample2() throws IOException
+	{
+		String[] expected = { "Invalid tag at line 4: >",
+				"Error at line 8: Improperly nested tags: <i> and </b>",
+				"Error at line 8: Mismatched end tag: </i>",
+				"Error at line 18: Improperly nested tags: <PackageCreationLocation> and </Language>",
+				"Error at line 21: Mismatched end tag: </I>",
+				"Error at line 22: Improperly nested tags: <i> and </Language>",
+				"Error at line 22: Improperly nested tags: <b> and </Language>" };
+		ErrorBuffer errors = sequential.validate( "res/sample2.xml" );
+		assertEquals( "Found the wrong number of errors.", expected.length, errors.size() );
+		for ( int i = 0; i < expected.length; i++ )
+		{
+			assertEquals( "Found the wrong error.", expected[i], errors.format( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that reaching the error limit while reporting unclosed tags at the
+	 * end of the file does not mark the errors as truncated.
+	 */
+	@Test
+	public void testValidate_LimitReachedAtEnd() throws IOException
+	{
+		Files.write( file.toPath(), "<a>\n<c>\n<b></b>\n".getBytes( StandardCharsets.UTF_8 ) );
+		sequential.setMaxErrors( 1 );
+		ErrorBuffer errors = sequential.validate( file.getPath() );
+		assertEquals( "Wrong number of errors recorded.", 1, errors.size() );
+		assertFalse( "Errors marked truncated although the whole file was read.", errors.isTruncated() );
+		assertEquals( "Wrong number of unclosed tags omitted.", 1, errors.getOmittedUnclosedTags() );
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that malformed markup and end tags matching no start tag are
+	 * reported by name without adding their names to the symbol table, so a
+	 * file full of distinct garbage cannot grow it, on one thread or several.
+	 */
+	@Test
+	public void testValidate_GarbageNotInterned() throws IOException
+	{
+		try ( BufferedWriter out = Files.newBufferedWriter( file.toPath(), StandardCharsets.UTF_8 ) )
+		{
+			out.write( "<root>\n" );
+			for ( int i = 0; i < 4 * LINES; i++ )
+			{
+				out.write( i % 2 == 0 ? "\t<x" + i + " <item/>\n" : "\t</g" + i + ">\n" );
+			}
+			out.write( "</root>\n" );
+		}
+		for ( Parser parser : new Parser[] { sequential, parallel } )
+		{
+			ErrorBuffer errors = parser.validate( file.getPath() );
+			assertEquals( "Wrong number of errors recorded.", 4 * LINES, errors.size() );
+			assertEquals( "Failed to report the markup.", "Invalid tag at line 2: <x0", errors.format( 0 ) );
+			assertEquals( "Failed to report the end tag.", "Error at line 3: Mismatched end tag: </g1>",
+					errors.format( 1 ) );
+			assertEquals( "Failed to report the last end tag.",
+					"Error at line " + ( 4 * LINES + 1 ) + ": Mismatched end tag: </g" + ( 4 * LINES - 1 ) + ">",
+					errors.format( errors.size() - 1 ) );
+			assertEquals( "Added names only seen in errors to the symbol table.", 1, errors.getSymbols().size() );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that reaching the error limit before the end of the file marks the
+	 * errors as truncated.
+	 */
+	@Test
+	public void testValidate_LimitReachedBeforeEnd() throws IOException
+	{
+		Files.write( file.toPath(), "<a>\n</x>\n</y>\n".getBytes( StandardCharsets.UTF_8 ) );
+		sequential.setMaxErrors( 1 );
+		ErrorBuffer errors = sequential.validate( file.getPath() );
+		assertEquals( "Wrong number of errors recorded.", 1, errors.size() );
+		assertTrue( "Errors not marked truncated although reading stopped early.", errors.isTruncated() );
+		assertEquals( "Unclosed tags counted although reading stopped early.", 0, errors.getOmittedUnclosedTags() );
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#setMaxDepth(int)} to ensure
+	 * that a start tag nesting deeper than the limit is reported where it starts
+	 * and stops validation.
+	 */
+	@Test
+	public void testValidate_DepthLimit() throws IOException
+	{
+		Files.write( file.toPath(), "<a>\n  <b><c>\n</c></b>\n</a>\n<x>\n".getBytes( StandardCharsets.UTF_8 ) );
+		sequential.setMaxDepth( 2 );
+		ErrorBuffer errors = sequential.validate( file.getPath() );
+		assertEquals( "Wrong number of errors recorded.", 1, errors.size() );
+		assertEquals( "Found the wrong error.", "Error at line 2: Tags nested too deeply: <c>", errors.format( 0 ) );
+		assertEquals( "Reported the wrong column.", 6, errors.getColumn( 0 ) );
+		assertTrue( "Errors not marked truncated although reading stopped early.", errors.isTruncated() );
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#setMaxDepth(int)} to ensure
+	 * that parallel validation finds a depth limit crossed in a later chunk,
+	 * where the tags opened within the chunk stay under the limit and only the
+	 * tags left open by the chunks before it take them over.
+	 */
+	@Test
+	public void testValidateParallel_DepthLimitInLaterChunk() throws IOException
+	{
+		try ( BufferedWriter out = Files.newBufferedWriter( file.toPath(), StandardCharsets.UTF_8 ) )
+		{
+			out.write( "<root>\n<l1><l2><l3><l4><l5>\n" );
+			for ( int i = 0; i < 4 * LINES; i++ )
+			{
+				out.write( "\t<item id=\"" + i + "\">value</item>\n" );
+			}
+			out.write( "<d1><d2><d3></d3></d2></d1>\n" );
+			for ( int i = 0; i < LINES / 2; i++ )
+			{
+				out.write( "\t<item id=\"" + i + "\">value</item>\n" );
+			}
+			out.write( "</l5></l4></l3></l2></l1>\n</root>\n" );
+		}
+		sequential.setMaxDepth( 8 );
+		ErrorBuffer expected = sequential.validate( file.getPath() );
+		assertEquals( "Wrong number of errors recorded.", 1, expected.size() );
+		assertEquals( "Found the wrong error.", "Error at line " + ( 4 * LINES + 3 ) + ": Tags nested too deeply: <d3>",
+				expected.format( 0 ) );
+		assertEquals( "Reported the wrong column.", 9, expected.getColumn( 0 ) );
+		assertParallelMatches( "tags nested too deeply in the last chunk", 0, 8 );
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that the metrics count the bytes of a file with a multi-byte
+	 * character, and no extra line after its final line break, however it is
+	 * read.
+	 */
+	@Test
+	public void testValidate_MetricsCountBytesAndLines() throws IOException
+	{
+		Files.write( file.toPath(), "<a>\u00e9</a>\n".getBytes( StandardCharsets.UTF_8 ) );
+		Parser reusable = new Parser();
+		reusable.setReusable( true );
+		Parser mapped = new Parser();
+		mapped.setMemoryMapped( true );
+		for ( Parser each : new Parser[] { sequential, reusable, mapped, parallel } )
+		{
+			ValidationMetrics metrics = new ValidationMetrics();
+			each.setMetrics( metrics );
+			each.validate( file.getPath() );
+			assertEquals( "Failed to count the bytes of the file.", 10, metrics.getBytes() );
+			assertEquals( "Failed to count the lines of the file.", 1, metrics.getLines() );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that the metrics count a last line with no line break, and no lines
+	 * in an empty file.
+	 */
+	@Test
+	public void testValidate_MetricsCountLastLine() throws IOException
+	{
+		ValidationMetrics metrics = new ValidationMetrics();
+		sequential.setMetrics( metrics );
+		Files.write( file.toPath(), "<a>\n</a>".getBytes( StandardCharsets.UTF_8 ) );
+		sequential.validate( file.getPath() );
+		assertEquals( "Failed to count a last line with no line break.", 2, metrics.getLines() );
+		Files.write( file.toPath(), new byte[0] );
+		sequential.validate( file.getPath() );
+		assertEquals( "Counted a line in an empty file.", 2, metrics.getLines() );
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#validate(java.lang.String)} to
+	 * ensure that random documents with errors spread through every chunk give
+	 * the same errors, at the same lines and columns, whether validated in one
+	 * pass or in parallel chunks.
+	 */
+	@Test
+	public void testValidateParallel_RandomDocuments() throws IOException
+	{
+		for ( long seed : SEEDS )
+		{
+			writeRandom( seed );
+			assertParallelMatches( "seed " + seed, 0, 0 );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#setMaxErrors(int)} to ensure
+	 * that parallel validation of random documents stops at the same errors, in
+	 * the same order, as one pass with the same limit, whether the limit is
+	 * reached in the first chunk or a later one.
+	 */
+	@Test
+	public void testValidateParallel_RandomDocumentsErrorLimits() throws IOException
+	{
+		for ( long seed : SEEDS )
+		{
+			writeRandom( seed );
+			for ( int limit : ERROR_LIMITS )
+			{
+				assertParallelMatches( "seed " + seed + " with at most " + limit + " errors", limit, 0 );
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#setMaxDepth(int)} to ensure
+	 * that parallel validation of random documents stops at the same tag nested
+	 * too deeply, after the same errors, as one pass with the same limit.
+	 */
+	@Test
+	public void testValidateParallel_RandomDocumentsDepthLimits() throws IOException
+	{
+		for ( long seed : SEEDS )
+		{
+			writeRandom( seed );
+			for ( int limit : DEPTH_LIMITS )
+			{
+				assertParallelMatches( "seed " + seed + " nested at most " + limit + " deep", 0, limit );
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#setReusable(boolean)} to
+	 * ensure that a reusable parser, read through a Reader or memory mapped,
+	 * finds the same errors as a new parser when a large file with tags left
+	 * open is followed by a shorter file and then the large one again.
+	 */
+	@Test
+	public void testSetReusable_LongerThenShorterFile() throws IOException
+	{
+		File shorter = File.createTempFile( "parser", ".xml" );
+		try
+		{
+			writeRandom( SEEDS[0] );
+			Files.write( shorter.toPath(), "<a>\n</b>\n<c>\n".getBytes( StandardCharsets.UTF_8 ) );
+			for ( boolean mapped : new boolean[] { false, true } )
+			{
+				Parser reusable = new Parser();
+				reusable.setReusable( true );
+				reusable.setMemoryMapped( mapped );
+				for ( File input : new File[] { file, shorter, file } )
+				{
+					Parser fresh = new Parser();
+					fresh.setMemoryMapped( mapped );
+					List<String> expected = describe( fresh.validate( input.getPath() ) );
+					assertEquals( "Reusable parser found different errors" + ( mapped ? " mapped." : "." ), expected,
+							describe( reusable.validate( input.getPath() ) ) );
+				}
+			}
+		} finally
+		{
+			shorter.delete();
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.Parser#setReusable(boolean)} to
+	 * ensure that a reusable parser finds the same errors as a new parser after
+	 * its input failed partway through, with tags open and errors recorded, and
+	 * after a file could not be opened.
+	 */
+	@Test
+	public void testSetReusable_AfterException() throws IOException
+	{
+		Files.write( file.toPath(), "<a>\n<b>\n</a>\n</c>\n".getBytes( StandardCharsets.UTF_8 ) );
+		List<String> expected = describe( sequential.validate( file.getPath() ) );
+		for ( boolean mapped : new boolean[] { false, true } )
+		{
+			Parser reusable = new Parser();
+			reusable.setReusable( true );
+			reusable.setMemoryMapped( mapped );
+			try
+			{
+				reusable.validate( new XMLTokenizer( new FailingReader( "<x>\n<y>\n</z>\n<w", 12 ) ) );
+				fail( "Failed to pass on an error reading the input." );
+			} catch ( IOException e )
+			{
+				assertTrue( true );
+			}
+			assertEquals( "Kept state from the input that failed.", expected,
+					describe( reusable.validate( file.getPath() ) ) );
+			try
+			{
+				reusable.validate( file.getPath() + ".missing" );
+				fail( "Validated a missing file." );
+			} catch ( IOException e )
+			{
+				assertTrue( true );
+			}
+			assertEquals( "Failed to validate a file after one could not be opened.", expected,
+					describe( reusable.validate( file.getPath() ) ) );
+		}
+	}
+
+	/**
+	 * Validates the file in one pass and in parallel on each of
+	 * {@link #PARALLELISMS} threads, with the given limits, and checks that
+	 * every parallel run finds the same errors as the single pass.
+	 * 
+	 * @param context  what is being validated, for failure messages
+	 * @param maxErrors the error limit, or 0 for none
+	 * @param maxDepth  the depth limit, or 0 for none
+	 */
+	private void assertParallelMatches( String context, int maxErrors, int maxDepth ) throws IOException
+	{
+		ErrorBuffer expected = limited( new Parser(), maxErrors, maxDepth ).validate( file.getPath() );
+		assertFalse( "Sequential validation found no errors in " + context + ".", expected.isEmpty() );
+		for ( int threads : PARALLELISMS )
+		{
+			Parser parser = limited( new Parser(), maxErrors, maxDepth );
+			parser.setParallelism( threads );
+			ErrorBuffer actual = parser.validate( file.getPath() );
+			String where = context + " on " + threads + " threads";
+			assertEquals( "Found a different number of errors for " + where + ".", expected.size(), actual.size() );
+			for ( int i = 0; i < expected.size(); i++ )
+			{
+				assertEquals( "Found a different error for " + where + ".", expected.format( i ), actual.format( i ) );
+				assertEquals( "Found an error at a different line for " + where + ".", expected.getLine( i ),
+						actual.getLine( i ) );
+				assertEquals( "Found an error at a different column for " + where + ".", expected.getColumn( i ),
+						actual.getColumn( i ) );
+			}
+			assertEquals( "Marked the errors truncated differently for " + where + ".", expected.isTruncated(),
+					actual.isTruncated() );
+			assertEquals( "Omitted a different number of unclosed tags for " + where + ".",
+					expected.getOmittedUnclosedTags(), actual.getOmittedUnclosedTags() );
+		}
+	}
+
+	private static Parser limited( Parser parser, int maxErrors, int maxDepth )
+	{
+		if ( maxErrors > 0 )
+		{
+			parser.setMaxErrors( maxErrors );
+		}
+		if ( maxDepth > 0 )
+		{
+			parser.setMaxDepth( maxDepth );
+		}
+		return parser;
+	}
+
+	/**
+	 * Lists each error with its position, then whether the errors were truncated
+	 * and how many unclosed tags were left out, so two results can be compared
+	 * after the parser that returned one has moved on.
+	 */
+	private static List<String> describe( ErrorBuffer errors )
+	{
+		List<String> described = new ArrayList<String>();
+		for ( int i = 0; i < errors.size(); i++ )
+		{
+			described.add( errors.format( i ) + " @" + errors.getLine( i ) + ":" + errors.getColumn( i ) );
+		}
+		described.add( "truncated " + errors.isTruncated() + ", omitted " + errors.getOmittedUnclosedTags() );
+		return described;
+	}
+
+	/**
+	 * Writes a random document of about {@link #RANDOM_SIZE} bytes, large enough
+	 * to be split into several chunks, whose lines each start with markup. Tags
+	 * open and close at random, several to a line at times, between comments,
+	 * CDATA sections, processing instructions and attribute values holding
+	 * '&gt;'. One line in {@link #ERROR_LINES} holds an error, a stray end tag,
+	 * crossed tags, a tag cut short or a stray '&gt;', so there are a few dozen
+	 * in every chunk. The tags open at once are capped at 10 deep at the start,
+	 * growing to 40 at the end, so a depth limit over 10 is first crossed part
+	 * of the way through the document. Tags still open at the end are left
+	 * unclosed.
+	 */
+	private void writeRandom( long seed ) throws IOException
+	{
+		Random random = new Random( seed );
+		String[] names = { "a", "b", "item", "node", "entry", "list", "para", "x" };
+		List<String> open = new ArrayList<String>();
+		long written = 0;
+		try ( BufferedWriter out = Files.newBufferedWriter( file.toPath(), StandardCharsets.UTF_8 ) )
+		{
+			while ( written < RANDOM_SIZE )
+			{
+				StringBuilder line = new StringBuilder();
+				for ( int i = 0; i < open.size(); i++ )
+				{
+					line.append( '\t' );
+				}
+				String name = names[random.nextInt( names.length )];
+				int choice = random.nextInt( 100 );
+				if ( random.nextInt( ERROR_LINES ) == 0 )
+				{
+					String[] errors = { "</wrong>", "<b>crossed<i>tags</b></i>", "<" + name + " cut <" + name + "/>",
+							"<" + name + ">a > b</" + name + ">" };
+					line.append( errors[random.nextInt( errors.length )] );
+				} else if ( choice < 10 )
+				{
+					String[] markup = { "<!-- <" + name + "> -->", "<![CDATA[ </" + name + "> ]]>",
+							"<?pi <" + name + "> ?>" };
+					line.append( markup[random.nextInt( markup.length )] );
+				} else if ( choice < 20 )
+				{
+					line.append( "<" + name + " v=\"1>0\"><" + name + "/>text</" + name + ">" );
+				} else if ( choice < 60 && open.size() < 10 + 30 * written / RANDOM_SIZE )
+				{
+					line.append( "<" + name + " id=\"" + written + "\">" );
+					open.add( name );
+				} else if ( !open.isEmpty() )
+				{
+					line.setLength( line.length() - 1 );
+					line.append( "</" + open.remove( open.size() - 1 ) + ">" );
+				} else
+				{
+					line.append( "<" + name + "/>" );
+				}
+				line.append( '\n' );
+				out.write( line.toString() );
+				written += line.length();
+			}
+		}
+	}
+
+	/**
+	 * Writes a document of one tag per line whose middle half is wrapped in the
+	 * given opening and closing markup, large enough to be split into several
+	 * chunks. An extra line, if given, is written before and after the wrapped
+	 * lines.
+	 */
+	private void write( String open, String close, String extra ) throws IOException
+	{
+		try ( BufferedWriter out = Files.newBufferedWriter( file.toPath(), StandardCharsets.UTF_8 ) )
+		{
+			out.write( "<root>\n" );
+			for ( int part = 0; part < 3; part++ )
+			{
+				if ( part == 1 )
+				{
+					line( out, extra );
+					out.write( open + "\n" );
+				}
+				for ( int i = 0; i < ( part == 1 ? 2 * LINES : LINES ); i++ )
+				{
+					out.write( "\t<item id=\"" + i + "\">value</item>\n" );
+				}
+				if ( part == 1 )
+				{
+					out.write( close + "\n" );
+					line( out, extra );
+				}
+			}
+			out.write( "</root>\n" );
+		}
+	}
+
+	private static void line( BufferedWriter out, String line ) throws IOException
+	{
+		if ( line != null )
+		{
+			out.write( "\t" + line + "\n" );
+		}
+	}
+
+	/**
+	 * A reader that hands over the start of some text, then fails.
+	 */
+	private static class FailingReader extends Reader
+	{
+		private final String text;
+		private int remaining;
+		private int position;
+
+		FailingReader( String text, int length )
+		{
+			this.text = text;
+			this.remaining = length;
+		}
+
+		@Override
+		public int read( char[] cbuf, int off, int len ) throws IOException
+		{
+			if ( remaining == 0 )
+			{
+				throw new IOException( "Input failed." );
+			}
+			int count = Math.min( Math.min( len, remaining ), 4 );
+			text.getChars( position, position + count, cbuf, off );
+			position += count;
+			remaining -= count;
+			return count;
+		}
+
+		@Override
+		public void close()
+		{
+		}
+	}
+}
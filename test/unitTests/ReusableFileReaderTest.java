@@ -0,0 +1,189 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.ReusableFileReader;
+
+/**
+ * Class Description:
+ * Test for the ReusableFileReader, checking that each file opened is read from
+ * its start to its end, whatever length and state the file before it left the
+ * reader in.
+ */
+
+public class ReusableFileReaderTest
+{
+	// Attributes
+	private File longer;
+	private File shorter;
+	private ReusableFileReader reader;
+
+	/**
+	 * Creates a file longer than the reader's buffer, a short file and a reader
+	 * before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		longer = File.createTempFile( "reader", ".xml" );
+		shorter = File.createTempFile( "reader", ".xml" );
+		Files.write( longer.toPath(), longText().getBytes( StandardCharsets.UTF_8 ) );
+		Files.write( shorter.toPath(), "<short/>".getBytes( StandardCharsets.UTF_8 ) );
+		reader = new ReusableFileReader();
+	}
+
+	/**
+	 * Closes the reader and deletes the files after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		reader.close();
+		longer.delete();
+		shorter.delete();
+		reader = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ReusableFileReader#open(java.lang.String)} to read
+	 * a long file with multi-byte characters across its buffer refills, then a
+	 * shorter file with nothing left over from the first, counting the bytes of
+	 * each.
+	 */
+	@Test
+	public void testOpen_LongerThenShorter() throws IOException
+	{
+		reader.open( longer.getPath() );
+		assertEquals( "Failed to read the long file.", longText(), readAll( 7 ) );
+		assertEquals( "Failed to count the bytes of the long file.", longer.length(), reader.getBytesRead() );
+		reader.open( shorter.getPath() );
+		assertEquals( "Read more than the short file.", "<short/>", readAll( 4096 ) );
+		assertEquals( "Failed to count the bytes of the short file.", shorter.length(), reader.getBytesRead() );
+		reader.open( longer.getPath() );
+		assertEquals( "Failed to read the long file again.", longText(), readAll( 4096 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ReusableFileReader#open(java.lang.String)} to start
+	 * the next file from its beginning when the file before was only partly
+	 * read, leaving bytes in the buffer and a character half decoded.
+	 */
+	@Test
+	public void testOpen_AfterPartialRead() throws IOException
+	{
+		reader.open( longer.getPath() );
+		char[] part = new char[101];
+		assertTrue( "Failed to read part of the long file.", reader.read( part, 0, part.length ) > 0 );
+		reader.open( shorter.getPath() );
+		assertEquals( "Read bytes left over from the file before.", "<short/>", readAll( 4096 ) );
+		assertEquals( "Failed to count the bytes of the short file.", shorter.length(), reader.getBytesRead() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ReusableFileReader#open(java.lang.String)} to close
+	 * the file being read when the next file cannot be opened, and to read the
+	 * file opened after that in full.
+	 */
+	@Test
+	public void testOpen_MissingFile() throws IOException
+	{
+		reader.open( longer.getPath() );
+		reader.read( new char[100], 0, 100 );
+		try
+		{
+			reader.open( new File( longer.getPath() + ".missing" ).getPath() );
+			fail( "Opened a missing file." );
+		} catch ( FileNotFoundException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			reader.read( new char[100], 0, 100 );
+			fail( "Read on after failing to open a file." );
+		} catch ( IOException e )
+		{
+			assertTrue( true );
+		}
+		reader.open( shorter.getPath() );
+		assertEquals( "Failed to read a file after failing to open one.", "<short/>", readAll( 4096 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.ReusableFileReader#read(char[], int, int)}
+	 * to replace malformed UTF-8 with U+FFFD and read on.
+	 */
+	@Test
+	public void testRead_Malformed() throws IOException
+	{
+		Files.write( shorter.toPath(), new byte[] { '<', 'a', (byte) 0xFF, '>' } );
+		reader.open( shorter.getPath() );
+		assertEquals( "Failed to replace malformed input.", "<a\ufffd>", readAll( 4096 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.ReusableFileReader#close()} to stop
+	 * reads until a file is opened again, keeping the count of bytes read.
+	 */
+	@Test
+	public void testClose() throws IOException
+	{
+		reader.open( shorter.getPath() );
+		readAll( 4096 );
+		reader.close();
+		assertEquals( "Lost the count of bytes read.", shorter.length(), reader.getBytesRead() );
+		try
+		{
+			reader.read( new char[10], 0, 10 );
+			fail( "Read after closing." );
+		} catch ( IOException e )
+		{
+			assertTrue( true );
+		}
+		reader.close();
+	}
+
+	/**
+	 * Builds the text of the long file: several times the reader's buffer, with
+	 * two and three byte characters that straddle buffer refills.
+	 */
+	private static String longText()
+	{
+		StringBuilder text = new StringBuilder();
+		for ( int i = 0; i < 3000; i++ )
+		{
+			text.append( "<t id=\"" ).append( i ).append( "\">caf\u00e9 \u20ac</t>\n" );
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Reads the rest of the open file, the given number of characters at a time.
+	 */
+	private String readAll( int length ) throws IOException
+	{
+		StringBuilder text = new StringBuilder();
+		char[] buffer = new char[length];
+		int count;
+		while ( ( count = reader.read( buffer, 0, length ) ) >= 0 )
+		{
+			text.append( buffer, 0, count );
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,201 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.TagSymbolTable;
+
+/**
+ * Class Description:
+ * Test for the TagSymbolTable, checking that names are found from a character
+ * buffer, given ids in the order they are added, and still found after the
+ * table grows, is cleared or holds names whose hashes collide.
+ */
+
+public class TagSymbolTableTest
+{
+	// Attributes
+	private static final int MANY = 1000;
+	private TagSymbolTable symbols;
+
+	/**
+	 * Creates an empty table before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		symbols = new TagSymbolTable();
+	}
+
+	/**
+	 * Cleans up the table after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		symbols = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.TagSymbolTable#find(char[], int)} to
+	 * find nothing in an empty table.
+	 */
+	@Test
+	public void testFind_Empty()
+	{
+		assertEquals( "Found a name in an empty table.", -1, find( "a" ) );
+		assertEquals( "Found an empty name in an empty table.", -1, symbols.find( new char[0], 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.TagSymbolTable#add(char[], int, java.lang.String)}
+	 * to give ids from 0 in the order names are added, reading only the given
+	 * length of the buffer.
+	 */
+	@Test
+	public void testAdd()
+	{
+		assertEquals( "Failed to give the first name id 0.", 0, symbols.add( "note".toCharArray(), 4, "note" ) );
+		assertEquals( "Failed to give the next name id 1.", 1, symbols.add( "toxyz".toCharArray(), 2, "to" ) );
+		assertEquals( "Failed to count the names.", 2, symbols.size() );
+		assertEquals( "Failed to find a name by the length given.", 1, find( "to" ) );
+		assertEquals( "Found a name longer than was added.", -1, find( "tox" ) );
+		assertEquals( "Found a prefix of a name.", -1, find( "no" ) );
+		assertEquals( "Failed to keep the display name.", "to", symbols.name( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.TagSymbolTable#find(char[], int)} to find a name
+	 * whatever else the buffer holds after it, and not to keep using the buffer
+	 * it was added from.
+	 */
+	@Test
+	public void testFind_BufferReused()
+	{
+		char[] buffer = "heading".toCharArray();
+		int id = symbols.add( buffer, 4, "head" );
+		buffer[0] = 'b';
+		assertEquals( "Lost a name when its buffer changed.", id, find( "head" ) );
+		assertEquals( "Found a name that was never added.", -1, symbols.find( buffer, 4 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.TagSymbolTable#intern(java.lang.String)}
+	 * to add a new name once and give the same id whenever it is seen again.
+	 */
+	@Test
+	public void testIntern()
+	{
+		int from = symbols.intern( "from" );
+		int body = symbols.intern( "body" );
+		assertNotEquals( "Gave two names the same id.", from, body );
+		assertEquals( "Failed to give a name its id again.", from, symbols.intern( "from" ) );
+		assertEquals( "Failed to give a name its id again.", body, symbols.intern( new String( "body" ) ) );
+		assertEquals( "Added a name twice.", 2, symbols.size() );
+		assertEquals( "Failed to find an interned name.", from, find( "from" ) );
+		assertEquals( "Failed to keep the name.", "body", symbols.name( body ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.TagSymbolTable#intern(java.lang.String)}
+	 * to tell apart names of different lengths and longer than the table's
+	 * scratch buffer.
+	 */
+	@Test
+	public void testIntern_LongNames()
+	{
+		StringBuilder name = new StringBuilder();
+		for ( int i = 0; i < 100; i++ )
+		{
+			name.append( 'n' );
+			assertEquals( "Failed to give a longer name a new id.", i, symbols.intern( name.toString() ) );
+		}
+		assertEquals( "Failed to find a long name.", 99, find( name.toString() ) );
+		assertEquals( "Failed to find a short name.", 0, find( "n" ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.TagSymbolTable#intern(java.lang.String)}
+	 * to keep finding every name by its id after adding far more names than the
+	 * table first has room for at its load factor, so it grows and rehashes
+	 * several times.
+	 */
+	@Test
+	public void testIntern_Rehash()
+	{
+		for ( int i = 0; i < MANY; i++ )
+		{
+			assertEquals( "Failed to give ids in order.", i, symbols.intern( "tag" + i ) );
+		}
+		assertEquals( "Failed to count the names.", MANY, symbols.size() );
+		for ( int i = 0; i < MANY; i++ )
+		{
+			assertEquals( "Lost a name when the table grew.", i, find( "tag" + i ) );
+			assertEquals( "Lost a display name when the table grew.", "tag" + i, symbols.name( i ) );
+		}
+		assertEquals( "Found a name that was never added.", -1, find( "tag" + MANY ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.TagSymbolTable#intern(java.lang.String)}
+	 * to tell apart names whose hashes are equal, such as "Aa" and "BB", which
+	 * land in the same slot.
+	 */
+	@Test
+	public void testIntern_CollidingNames()
+	{
+		String[] colliding = { "Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB" };
+		assertEquals( "Names chosen do not collide.", "Aa".hashCode(), "BB".hashCode() );
+		assertEquals( "Names chosen do not collide.", "AaAa".hashCode(), "BBBB".hashCode() );
+		for ( int i = 0; i < colliding.length; i++ )
+		{
+			assertEquals( "Failed to give a colliding name a new id.", i, symbols.intern( colliding[i] ) );
+		}
+		for ( int i = 0; i < colliding.length; i++ )
+		{
+			assertEquals( "Failed to find a colliding name.", i, find( colliding[i] ) );
+		}
+		assertEquals( "Found a name that was never added.", -1, find( "AaAaAa" ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.TagSymbolTable#clear()} to forget
+	 * every name and give ids from 0 again, both before and after the table has
+	 * grown.
+	 */
+	@Test
+	public void testClear()
+	{
+		for ( int i = 0; i < MANY; i++ )
+		{
+			symbols.intern( "tag" + i );
+		}
+		symbols.clear();
+		assertEquals( "Failed to empty the table.", 0, symbols.size() );
+		assertEquals( "Found a name after clearing.", -1, find( "tag0" ) );
+		assertEquals( "Found a name after clearing.", -1, find( "tag" + ( MANY - 1 ) ) );
+
+		assertEquals( "Failed to give ids from 0 again.", 0, symbols.intern( "tag5" ) );
+		assertEquals( "Failed to give ids from 0 again.", 1, symbols.intern( "other" ) );
+		assertEquals( "Failed to find a name added after clearing.", 0, find( "tag5" ) );
+		assertEquals( "Failed to keep a name added after clearing.", "other", symbols.name( 1 ) );
+		for ( int i = 0; i < MANY; i++ )
+		{
+			symbols.intern( "again" + i );
+		}
+		assertEquals( "Failed to reuse the table.", MANY + 2, symbols.size() );
+		assertEquals( "Lost a name when the reused table grew.", 0, find( "tag5" ) );
+	}
+
+	private int find( String name )
+	{
+		return symbols.find( name.toCharArray(), name.length() );
+	}
+}
@@ -0,0 +1,301 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import implementations.TagSymbolTable;
+import implementations.XMLTokenizer;
+
+/**
+ * Class Description:
+ * Test for the XMLTokenizer, checking the tokens it splits markup into and the
+ * line, column and offset it reports for each.
+ */
+
+public class XMLTokenizerTest
+{
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#next()} to find every
+	 * tag on a line holding several, with the column of each.
+	 */
+	@Test
+	public void testNext_SeveralTagsOnOneLine() throws IOException
+	{
+		XMLTokenizer tokenizer = tokenizer( "<a><b/>text</b></a>" );
+		assertToken( tokenizer, XMLTokenizer.START_TAG, "a", 1, 1 );
+		assertToken( tokenizer, XMLTokenizer.EMPTY_TAG, "b", 1, 4 );
+		assertToken( tokenizer, XMLTokenizer.TEXT, "", 1, 8 );
+		assertToken( tokenizer, XMLTokenizer.END_TAG, "b", 1, 12 );
+		assertToken( tokenizer, XMLTokenizer.END_TAG, "a", 1, 16 );
+		assertEquals( "Failed to reach the end of input.", XMLTokenizer.END_OF_INPUT, tokenizer.next() );
+	}
+
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#next()} to find the
+	 * tags of a line of res/sample2.xml, which a parser reading one tag per line
+	 * missed.
+	 */
+	@Test
+	public void testNext_SampleLineWithCrossedTags() throws IOException
+	{
+		assertEquals( "Failed to find every tag on the line.",
+				"START b, TEXT, START i, TEXT, END b, TEXT, END i",
+				tokens( "<b>This is for the Spanish<i> Language that is </b> long ago lost.</i>" ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#next()} to read a '>'
+	 * inside a quoted attribute value as part of the value.
+	 */
+	@Test
+	public void testNext_GreaterThanInQuotedAttribute() throws IOException
+	{
+		assertEquals( "Failed to skip '>' in quoted attribute values.", "START a, EMPTY b",
+				tokens( "<a href=\"x>y\" title='p>q'><b c=\"/>\"/>" ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#next()} to skip the
+	 * markup inside a comment, which ends only at "--&gt;".
+	 */
+	@Test
+	public void testNext_Comment() throws IOException
+	{
+		assertEquals( "Failed to skip a comment.", "COMMENT, START b",
+				tokens( "<!-- <a> - > -- > --><b>" ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#next()} to read a CDATA
+	 * section, markup and all, as text ending at "]]&gt;".
+	 */
+	@Test
+	public void testNext_CData() throws IOException
+	{
+		assertEquals( "Failed to read CDATA as text.", "TEXT, EMPTY b",
+				tokens( "<![CDATA[ <a> ]] > ]]><b/>" ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#next()} to read a
+	 * processing instruction, including a '>' inside it, up to "?&gt;".
+	 */
+	@Test
+	public void testNext_ProcessingInstruction() throws IOException
+	{
+		assertEquals( "Failed to read processing instructions.", "PI, PI, START a",
+				tokens( "<?xml version=\"1.0\"?><?style a > b ?><a>" ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#next()} to read a
+	 * declaration with an internal subset as one token.
+	 */
+	@Test
+	public void testNext_Declaration() throws IOException
+	{
+		assertEquals( "Failed to read a declaration.", "DECLARATION, START a",
+				tokens( "<!DOCTYPE a [ <!ELEMENT a ANY> ]><a>" ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#next()} to report stray
+	 * brackets and tags cut short by another tag as invalid, with the markup
+	 * found as the name.
+	 */
+	@Test
+	public void testNext_Invalid() throws IOException
+	{
+		assertEquals( "Failed to report a stray '>'.", "TEXT, INVALID >, TEXT", tokens( "a > b" ) );
+		assertEquals( "Failed to report a tag cut short.", "INVALID <a, START b", tokens( "<a <b>" ) );
+		assertEquals( "Failed to report an empty end tag.", "INVALID </>", tokens( "</>" ) );
+		assertEquals( "Failed to report a '<' before whitespace.", "INVALID <, TEXT, INVALID >",
+				tokens( "< a>" ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#isUnterminated()} to
+	 * report markup still open at the end of input, and nothing for a tag that
+	 * is merely cut short.
+	 */
+	@Test
+	public void testNext_Unterminated() throws IOException
+	{
+		String[] open = { "<!-- never closed", "<![CDATA[ never closed", "<?pi never closed",
+				"<a title=\"never closed>", "<!DOCTYPE never closed" };
+		for ( String input : open )
+		{
+			XMLTokenizer tokenizer = tokenizer( input );
+			assertEquals( "Failed to report unterminated markup as invalid.", XMLTokenizer.INVALID,
+					tokenizer.next() );
+			assertTrue( "Failed to report unterminated markup: " + input, tokenizer.isUnterminated() );
+		}
+		XMLTokenizer tokenizer = tokenizer( "<a" );
+		assertEquals( "Failed to report a tag cut short as invalid.", XMLTokenizer.INVALID, tokenizer.next() );
+		assertEquals( "Failed to keep the markup found.", "<a", tokenizer.getName() );
+		assertFalse( "Reported a tag cut short as unterminated.", tokenizer.isUnterminated() );
+	}
+
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#getLine()},
+	 * {@link implementations.XMLTokenizer#getColumn()} and
+	 * {@link implementations.XMLTokenizer#getOffset()} to report where each token
+	 * starts, counting tabs as one column, and the length of the input at the
+	 * end.
+	 */
+	@Test
+	public void testGetLineColumnOffset() throws IOException
+	{
+		XMLTokenizer tokenizer = tokenizer( "<a>\n  <b\n x='1'>\n\t</b></a>\n" );
+		assertToken( tokenizer, XMLTokenizer.START_TAG, "a", 1, 1 );
+		assertEquals( "Failed to report the offset.", 0, tokenizer.getOffset() );
+		assertToken( tokenizer, XMLTokenizer.TEXT, "", 1, 4 );
+		assertToken( tokenizer, XMLTokenizer.START_TAG, "b", 2, 3 );
+		assertEquals( "Failed to report the offset.", 6, tokenizer.getOffset() );
+		assertToken( tokenizer, XMLTokenizer.TEXT, "", 3, 8 );
+		assertToken( tokenizer, XMLTokenizer.END_TAG, "b", 4, 2 );
+		assertEquals( "Failed to report the offset.", 18, tokenizer.getOffset() );
+		assertToken( tokenizer, XMLTokenizer.END_TAG, "a", 4, 6 );
+		assertToken( tokenizer, XMLTokenizer.TEXT, "", 4, 10 );
+		assertEquals( "Failed to reach the end of input.", XMLTokenizer.END_OF_INPUT, tokenizer.next() );
+		assertEquals( "Failed to report the last line.", 5, tokenizer.getLine() );
+		assertEquals( "Failed to report the last column.", 1, tokenizer.getColumn() );
+		assertEquals( "Failed to report the length of the input.", 27, tokenizer.getOffset() );
+	}
+
+	/**
+	 * Test method for {@link implementations.XMLTokenizer#next()} to find the same
+	 * tokens at the same positions when the reader hands over a few characters
+	 * at a time, so tokens and line breaks straddle every refill.
+	 */
+	@Test
+	public void testNext_SmallReads() throws IOException
+	{
+		StringBuilder input = new StringBuilder();
+		for ( int i = 0; i < 2000; i++ )
+		{
+			input.append( "<item id=\"" ).append( i ).append( "\">\n<!-- c -->text<![CDATA[<x>]]></item>\n" );
+		}
+		String whole = positions( new XMLTokenizer( new StringReader( input.toString() ) ) );
+		for ( int chunk = 1; chunk <= 7; chunk += 3 )
+		{
+			assertEquals( "Failed to find the same tokens with small reads.", whole,
+					positions( new XMLTokenizer( new ChunkedReader( input.toString(), chunk ) ) ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.XMLTokenizer#internName(implementations.TagSymbolTable)}
+	 * to give the same id to the same name however often it is seen.
+	 */
+	@Test
+	public void testInternName() throws IOException
+	{
+		TagSymbolTable symbols = new TagSymbolTable();
+		XMLTokenizer tokenizer = tokenizer( "<a><bb></bb></a>" );
+		tokenizer.next();
+		int a = tokenizer.internName( symbols );
+		tokenizer.next();
+		int bb = tokenizer.internName( symbols );
+		tokenizer.next();
+		assertEquals( "Failed to give a name seen before its id.", bb, tokenizer.internName( symbols ) );
+		tokenizer.next();
+		assertEquals( "Failed to give a name seen before its id.", a, tokenizer.internName( symbols ) );
+		assertNotEquals( "Gave two names the same id.", a, bb );
+		assertEquals( "Failed to keep the name.", "bb", symbols.name( bb ) );
+	}
+
+	private static XMLTokenizer tokenizer( String input )
+	{
+		return new XMLTokenizer( new StringReader( input ) );
+	}
+
+	private static void assertToken( XMLTokenizer tokenizer, int type, String name, int line, int column )
+			throws IOException
+	{
+		assertEquals( "Failed to read the right token type.", type, tokenizer.next() );
+		if ( type != XMLTokenizer.TEXT )
+		{
+			assertEquals( "Failed to read the right name.", name, tokenizer.getName() );
+		}
+		assertEquals( "Failed to report the line.", line, tokenizer.getLine() );
+		assertEquals( "Failed to report the column.", column, tokenizer.getColumn() );
+	}
+
+	/**
+	 * Lists the tokens of some input, with the names of tags and invalid markup.
+	 */
+	private static String tokens( String input ) throws IOException
+	{
+		String[] types = { "END", "START", "END", "EMPTY", "PI", "COMMENT", "TEXT", "DECLARATION", "INVALID" };
+		XMLTokenizer tokenizer = tokenizer( input );
+		List<String> found = new ArrayList<String>();
+		int token;
+		while ( ( token = tokenizer.next() ) != XMLTokenizer.END_OF_INPUT )
+		{
+			boolean named = token == XMLTokenizer.START_TAG || token == XMLTokenizer.END_TAG
+					|| token == XMLTokenizer.EMPTY_TAG || token == XMLTokenizer.INVALID;
+			found.add( named ? types[token] + " " + tokenizer.getName() : types[token] );
+		}
+		return String.join( ", ", found );
+	}
+
+	/**
+	 * Lists every token of a tokenizer with its name and position.
+	 */
+	private static String positions( XMLTokenizer tokenizer ) throws IOException
+	{
+		StringBuilder found = new StringBuilder();
+		int token;
+		do
+		{
+			token = tokenizer.next();
+			found.append( token ).append( ' ' ).append( tokenizer.getName() ).append( ' ' )
+					.append( tokenizer.getLine() ).append( ':' ).append( tokenizer.getColumn() ).append( ' ' )
+					.append( tokenizer.getOffset() ).append( '\n' );
+		} while ( token != XMLTokenizer.END_OF_INPUT );
+		return found.toString();
+	}
+
+	/**
+	 * A reader that hands over at most a few characters per read.
+	 */
+	private static class ChunkedReader extends Reader
+	{
+		private final String input;
+		private final int chunk;
+		private int position;
+
+		ChunkedReader( String input, int chunk )
+		{
+			this.input = input;
+			this.chunk = chunk;
+		}
+
+		@Override
+		public int read( char[] cbuf, int off, int len )
+		{
+			if ( position == input.length() )
+			{
+				return -1;
+			}
+			int count = Math.min( Math.min( len, chunk ), input.length() - position );
+			input.getChars( position, position + count, cbuf, off );
+			position += count;
+			return count;
+		}
+
+		@Override
+		public void close()
+		{
+		}
+	}
+}